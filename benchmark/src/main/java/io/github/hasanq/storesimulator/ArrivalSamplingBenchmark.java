@@ -0,0 +1,86 @@
+package io.github.hasanq.storesimulator;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+/**
+ * This class benchmarks drawing the number of arrivals of one minute: one random draw 
+ * per candidate customer the way the simulator used to, one draw from the arrival 
+ * distribution, and a whole horizon of minutes drawn into an array at once.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrivalSamplingBenchmark {
+	static final int MINUTES = 10000;
+	
+	@Param({"6", "600"})
+	private int maxCustPerMin;
+	
+	@Param({"0.5"})
+	private double arrivalProb;
+	
+	private SplittableRandom random = new SplittableRandom(1);
+	private ArrivalDistribution arrivals;
+	
+	/**
+	 * Builds the arrival distribution
+	 */
+	@Setup
+	public void setUp() {
+		arrivals = new ArrivalDistribution(maxCustPerMin, arrivalProb);
+	}
+	
+	/**
+	 * Draws a number of candidates and then whether each of them arrives
+	 * @return
+	 * 	the number of customers arriving
+	 */
+	@Benchmark
+	public int perCandidate() {
+		int candidates = random.nextInt(maxCustPerMin + 1);
+		int customerArrivals = 0;
+		for (int i = 0; i < candidates; i++) {
+			if (random.nextDouble() <= arrivalProb) {
+				customerArrivals++;
+			}
+		}
+		return customerArrivals;
+	}
+	
+	/**
+	 * Draws the number of arrivals from the arrival distribution
+	 * @return
+	 * 	the number of customers arriving
+	 */
+	@Benchmark
+	public int distribution() {
+		return arrivals.sample(random);
+	}
+	
+	/**
+	 * Draws the number of arrivals of a whole horizon of minutes
+	 * @return
+	 * 	the number of customers arriving in each minute
+	 */
+	@Benchmark
+	@OperationsPerInvocation(MINUTES)
+	public int[] horizon() {
+		return arrivals.sample(random, MINUTES);
+	}
+}
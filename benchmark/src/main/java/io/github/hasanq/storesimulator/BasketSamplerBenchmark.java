@@ -0,0 +1,54 @@
+package io.github.hasanq.storesimulator;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+/**
+ * This class benchmarks drawing the price of a basket one item at a time against drawing
+ * it from the precomputed tables, for small and full baskets.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BasketSamplerBenchmark {
+	@Param({"1", "10", "20"})
+	private int numberOfItems;
+	
+	@Param({"exact", "table"})
+	private String sampler;
+	
+	private SplittableRandom random = new SplittableRandom(1);
+	private BasketSampler basketSampler;
+	
+	/**
+	 * Picks the sampler being measured
+	 */
+	@Setup
+	public void setUp() {
+		basketSampler = sampler.equals("exact") ? BasketSampler.exact() : BasketSampler.table();
+	}
+	
+	/**
+	 * Draws the total price of a basket
+	 * @return
+	 * 	the price in cents
+	 */
+	@Benchmark
+	public int price() {
+		return basketSampler.samplePriceInCents(numberOfItems, random);
+	}
+}
@@ -0,0 +1,79 @@
+package io.github.hasanq.storesimulator;
+
+import java.util.LinkedList;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+/**
+ * This class benchmarks a customer joining and another leaving a checkout line of a
+ * steady length, for the circular array Checkout and for the LinkedList it replaced.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckoutBenchmark {
+	@Param({"1", "100", "10000", "100000"})
+	private int depth;
+	
+	private Checkout checkout;
+	private LinkedList<Customer> linkedList;
+	private Customer customer;
+	
+	/**
+	 * Fills both lines to the benchmarked length
+	 */
+	@Setup
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(1);
+		checkout = new Checkout();
+		linkedList = new LinkedList<>();
+		
+		for (int i = 0; i < depth; i++) {
+			Customer c = new Customer(i + 1, random, random);
+			checkout.enqueue(c);
+			linkedList.offer(c);
+		}
+		customer = new Customer(depth + 1, random, random);
+	}
+	
+	/**
+	 * Enqueues and dequeues a customer on the circular array checkout. The front of the
+	 * line is returned as its index in the customer table, since peek builds a Customer
+	 * every time and would charge this benchmark an allocation the LinkedList does not
+	 * make.
+	 * @return
+	 * 	the index of the customer at the front of the line
+	 */
+	@Benchmark
+	public int checkout() {
+		checkout.enqueue(customer);
+		checkout.dequeue();
+		return checkout.peekIndex();
+	}
+	
+	/**
+	 * Offers and polls a customer on a LinkedList, the way Checkout used to
+	 * @return
+	 * 	the customer at the front of the line
+	 */
+	@Benchmark
+	public Customer linkedList() {
+		linkedList.offer(customer);
+		linkedList.poll();
+		return linkedList.peek();
+	}
+}
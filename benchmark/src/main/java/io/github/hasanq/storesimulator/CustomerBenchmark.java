@@ -0,0 +1,74 @@
+package io.github.hasanq.storesimulator;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+/**
+ * This class benchmarks generating a customer from the random streams of a simulation.
+ * addCustomer is what the simulator does for every arrival: a row of the customer table
+ * with its basket price and cost drawn by the basket sampler. newCustomer only covers the
+ * Customer constructor, which is kept for compatibility and is not used by the simulator.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerBenchmark {
+	@Param({"table", "exact"})
+	private String sampler;
+
+	private SplittableRandom basketRandom = new SplittableRandom(1);
+	private SplittableRandom issueRandom = new SplittableRandom(2);
+	private SplittableRandom itemCostRandom = new SplittableRandom(3);
+	private BasketSampler basketSampler;
+	private CustomerTable customers = new CustomerTable();
+	private long lastAssignedNumber;
+
+	/**
+	 * Picks the basket sampler being benchmarked
+	 */
+	@Setup
+	public void setUp() {
+		basketSampler = sampler.equals("exact") ? BasketSampler.exact() : BasketSampler.table();
+	}
+
+	/**
+	 * Adds a customer to the customer table the way the simulator does when they arrive,
+	 * and removes them again so the table stays the same size
+	 * @return
+	 * 	the cost of the items of the customer in cents
+	 */
+	@Benchmark
+	public int addCustomer() {
+		int customer = customers.add(++lastAssignedNumber, basketSampler, basketRandom,
+		  issueRandom);
+		int costInCents = basketSampler.sampleCostInCents(customers.getNumberOfItems(customer),
+		  itemCostRandom);
+		customers.setCostInCents(customer, costInCents);
+		customers.remove(customer);
+		return costInCents;
+	}
+
+	/**
+	 * Generates a new customer object, which the simulator no longer does
+	 * @return
+	 * 	the customer
+	 */
+	@Benchmark
+	public Customer newCustomer() {
+		return new Customer(++lastAssignedNumber, basketRandom, issueRandom);
+	}
+}
@@ -0,0 +1,71 @@
+package io.github.hasanq.storesimulator;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+/**
+ * This class benchmarks what reporting events to listeners costs a quiet simulation: 
+ * with no listeners at all, with one listener that ignores every event, and with one 
+ * that counts them. The same seed is used every time so every run has the same events.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListenerBenchmark {
+	@Param({"none", "ignoring", "counting"})
+	private String listener;
+	
+	@Param({"10"})
+	private int checkouts;
+	
+	@Param({"10000"})
+	private int duration;
+	
+	private long events;
+	
+	/**
+	 * Runs a whole simulation with the listener being measured
+	 * @return
+	 * 	the results of the simulation
+	 */
+	@Benchmark
+	public SimulationResults simulate() {
+		StoreSimulator store = new StoreSimulator(checkouts, 0.5, 2, duration, 6, 42);
+		store.setQuiet(true);
+		if (listener.equals("ignoring")) {
+			store.addListener(new SimulationListener() {});
+		} else if (listener.equals("counting")) {
+			store.addListener(new SimulationListener() {
+				@Override
+				public void onArrival(int tick, long customer, int numberOfItems, int checkout) {
+					events++;
+				}
+				
+				@Override
+				public void onServiceStart(int tick, long customer, int checkout, 
+				  long serviceTicks) 
+				{
+					events++;
+				}
+				
+				@Override
+				public void onDeparture(int tick, long customer, int checkout) {
+					events++;
+				}
+			});
+		}
+		return store.run();
+	}
+}
@@ -0,0 +1,147 @@
+package io.github.hasanq.storesimulator;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+/**
+ * This class benchmarks the two halves of a minute of the minute by minute loop on their
+ * own: customers arriving, and a pass over every checkout finishing and progressing 
+ * customers. Every invocation runs a fresh simulator for a fixed amount of minutes, so the
+ * scores are the average time of a single simulated minute. The scores do not show what a
+ * minute allocates, run with -prof gc to see gc.alloc.rate.norm per simulated minute.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(MinuteStepBenchmark.MINUTES)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MinuteStepBenchmark {
+	static final int MINUTES = 100;
+	
+	/**
+	 * This class holds the scenario shared by both benchmarks.
+	 */
+	@State(Scope.Thread)
+	public static class Scenario {
+		@Param({"10", "1000"})
+		int checkouts;
+		
+		@Param({"0.5"})
+		double arrivalProb;
+		
+		@Param({"6", "600"})
+		int maxCustPerMin;
+		
+		long seed;
+		
+		/**
+		 * Helper method for making a fresh quiet simulator for the scenario
+		 * @return
+		 * 	a simulator with a worker for every checkout, so no checkout is ever blocked
+		 */
+		StoreSimulator newStore() {
+			StoreSimulator store = new StoreSimulator(checkouts, arrivalProb, checkouts, 
+			  MINUTES, maxCustPerMin, seed++);
+			store.setMode(StoreSimulator.Mode.MINUTE_STEPPED);
+			store.setQuiet(true);
+			return store;
+		}
+	}
+	
+	/**
+	 * This class holds a simulator with empty checkouts for the arrivals benchmark.
+	 */
+	@State(Scope.Thread)
+	public static class EmptyStore {
+		StoreSimulator store;
+		
+		/**
+		 * Makes a fresh simulator before every invocation
+		 * @param scenario
+		 * 	the scenario being benchmarked
+		 */
+		@Setup(Level.Invocation)
+		public void setUp(Scenario scenario) {
+			store = scenario.newStore();
+		}
+	}
+	
+	/**
+	 * This class holds a simulator whose checkouts have long enough lines to stay busy
+	 * for the whole invocation, for the checkout benchmark.
+	 */
+	@State(Scope.Thread)
+	public static class BusyStore {
+		StoreSimulator store;
+		long[] remainingTime;
+		
+		/**
+		 * Makes a fresh simulator before every invocation and fills its lines, using the
+		 * shortest possible service time of 1.6 minutes. Like the first minute of the 
+		 * simulation, every checkout then starts serving the customer at the front of its
+		 * line, so no customer leaves without being served.
+		 * @param scenario
+		 * 	the scenario being benchmarked
+		 */
+		@Setup(Level.Invocation)
+		public void setUp(Scenario scenario) {
+			store = scenario.newStore();
+			remainingTime = new long[scenario.checkouts];
+			
+			double arrivalsPerMinute = scenario.arrivalProb * scenario.maxCustPerMin / 2;
+			long minutesToFill = (long) Math.ceil(scenario.checkouts * (MINUTES / 1.6 + 1) 
+			  / arrivalsPerMinute);
+			for (long i = 0; i < minutesToFill; i++) {
+				store.simulateArrivals();
+			}
+			for (int j = 0; j < remainingTime.length; j++) {
+				store.processCheckout(j, remainingTime);
+			}
+		}
+	}
+	
+	/**
+	 * Simulates the arrivals of every minute
+	 * @param state
+	 * 	the simulator the customers arrive at
+	 */
+	@Benchmark
+	public void simulateArrivals(EmptyStore state) {
+		for (int i = 0; i < MINUTES; i++) {
+			state.store.simulateArrivals();
+		}
+	}
+	
+	/**
+	 * Finishes and progresses the customers at every checkout of every minute
+	 * @param state
+	 * 	the simulator with busy checkouts
+	 */
+	@Benchmark
+	public void processCheckout(BusyStore state) {
+		StoreSimulator store = state.store;
+		long[] remainingTime = state.remainingTime;
+		
+		for (int i = 0; i < MINUTES; i++) {
+			for (int j = 0; j < remainingTime.length; j++) {
+				store.handleCompletedCustomers(j, remainingTime);
+			}
+			for (int j = 0; j < remainingTime.length; j++) {
+				store.processCheckout(j, remainingTime);
+			}
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package io.github.hasanq.storesimulator;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+/**
+ * This class benchmarks whole simulations. Besides runs per second it reports how many
+ * simulated minutes and customer-minutes (the aggregate wait time) are simulated per
+ * second. Running with -prof gc gives the allocation per run, which divided by the
+ * duration is the allocation per simulated minute. Both quiet and non-quiet runs are
+ * benchmarked, and non-quiet runs log every event to a stream that throws everything
+ * away, so the two show how much faster quiet mode is.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(org.openjdk.jmh.annotations.Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimulateBenchmark {
+	@Param({"10", "1000"})
+	private int checkouts;
+	
+	@Param({"0.5"})
+	private double arrivalProb;
+	
+	@Param({"6", "600"})
+	private int maxCustPerMin;
+	
+	@Param({"2000"})
+	private int duration;
+	
+	@Param({"3"})
+	private int numWorkers;
+	
+	@Param({"DISCRETE_EVENT", "MINUTE_STEPPED"})
+	private StoreSimulator.Mode mode;
+	
+	@Param({"true", "false"})
+	private boolean quiet;
+	
+	private long seed;
+	private PrintStream console;
+	
+	/**
+	 * This class holds the simulated minutes and customer-minutes, which JMH reports as
+	 * rates per second.
+	 */
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	@State(Scope.Thread)
+	public static class Counters {
+		public long simulatedMinutes;
+		public long customerMinutes;
+		
+		/**
+		 * Resets the counters before each iteration
+		 */
+		@Setup(Level.Iteration)
+		public void reset() {
+			simulatedMinutes = 0;
+			customerMinutes = 0;
+		}
+	}
+	
+	/**
+	 * Sends the event log of non-quiet runs to a stream that throws everything away
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		console = System.out;
+		if (!quiet) {
+			System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+		}
+	}
+	
+	/**
+	 * Puts the console back once the benchmark is done
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		System.setOut(console);
+	}
+	
+	/**
+	 * Runs a whole simulation with a new seed every time
+	 * @param counters
+	 * 	the counters of simulated minutes and customer-minutes
+	 * @return
+	 * 	the results of the simulation
+	 */
+	@Benchmark
+	public SimulationResults simulate(Counters counters) {
+		StoreSimulator store = new StoreSimulator(checkouts, arrivalProb, numWorkers, 
+		  duration, maxCustPerMin, seed++);
+		store.setMode(mode);
+		store.setQuiet(quiet);
+		SimulationResults results = store.run();
+		
+		counters.simulatedMinutes += duration;
+		counters.customerMinutes += (long) results.getAggregateWaitTime();
+		return results;
+	}
+}
@@ -0,0 +1,391 @@
+package io.github.hasanq.storesimulator.cli;
+
+import io.github.hasanq.storesimulator.QueueingEstimate;
+import io.github.hasanq.storesimulator.ReplicationRunner;
+import io.github.hasanq.storesimulator.ReplicationSummary;
+import io.github.hasanq.storesimulator.StoreSimulator;
+/**
+ * This class represents the options of one scenario given on the command line or on a
+ * line of a scenario file. Every option is written as --name value or --name=value, and
+ * options that are not given keep the value they had, so the options of the command line
+ * act as defaults for every line of a scenario file.
+ */
+class ScenarioOptions {
+	static final int MIN_REPLICATIONS = 10;
+	static final int MAX_REPLICATIONS = 1000;
+	static final String USAGE = "Usage: java -jar store-simulator.jar [options]\n"
+	  + "\n"
+	  + "With no options the simulator asks for the scenario on standard input.\n"
+	  + "\n"
+	  + "Scenario options:\n"
+	  + "\t--checkouts N          number of checkouts\n"
+	  + "\t--arrival-prob P       probability of a customer arriving, above 0 and at most 1\n"
+	  + "\t--workers N            number of workers fixing scanning issues\n"
+	  + "\t--duration N           minutes the simulation runs for\n"
+	  + "\t--max-customers N      maximum amount of customers entering each minute\n"
+	  + "\t--seed N               random seed, random if not given\n"
+	  + "\t--mode M               discrete-event (default) or minute-stepped\n"
+	  + "\t--ticks-per-minute N   ticks every minute is split into, 1 by default\n"
+	  + "\t--replications N       run N simulations at 1 tick per minute in parallel and\n"
+	  + "\t                       print a summary of them, cannot be combined with --mode\n"
+	  + "\t                       or --ticks-per-minute\n"
+	  + "\t--precision P          run replications until the gross amount, profit, efficiency\n"
+	  + "\t                       and average wait time are known to within P times their\n"
+	  + "\t                       mean, running at most --replications of them (1000 if not\n"
+	  + "\t                       given)\n"
+	  + "\t--antithetic           run every replication as an antithetic pair and average it\n"
+	  + "\t--estimate             print the queueing estimate instead of simulating\n"
+	  + "\t--quiet                only print the results\n"
+	  + "\n"
+	  + "Other options:\n"
+	  + "\t--file PATH            run every scenario of a file, - for standard input\n"
+	  + "\t--help                 print this message\n"
+	  + "\n"
+	  + "A scenario file has one scenario per line written with the scenario options above.\n"
+	  + "Blank lines and anything after a # are ignored, and options given on the command\n"
+	  + "line are used for anything a line leaves out.";
+
+	private Integer numberOfCheckouts;
+	private Double arrivalProb;
+	private Integer numWorkers;
+	private Integer duration;
+	private Integer maxCustPerMin;
+	private Long seed;
+	private StoreSimulator.Mode mode;
+	private Integer ticksPerMinute;
+	private int replications;
+	private double precision;
+	private boolean antithetic;
+	private boolean estimate;
+	private boolean quiet;
+	private String file;
+	private boolean help;
+
+	/**
+	 * Makes a copy of the options for a line of a scenario file to change
+	 * @return
+	 * 	a copy of the options without the file and help options
+	 */
+	ScenarioOptions copy() {
+		ScenarioOptions copy = new ScenarioOptions();
+		copy.numberOfCheckouts = numberOfCheckouts;
+		copy.arrivalProb = arrivalProb;
+		copy.numWorkers = numWorkers;
+		copy.duration = duration;
+		copy.maxCustPerMin = maxCustPerMin;
+		copy.seed = seed;
+		copy.mode = mode;
+		copy.ticksPerMinute = ticksPerMinute;
+		copy.replications = replications;
+		copy.precision = precision;
+		copy.antithetic = antithetic;
+		copy.estimate = estimate;
+		copy.quiet = quiet;
+		return copy;
+	}
+
+	/**
+	 * Reads options into this object
+	 * @param args
+	 * 	the options, each followed by its value unless it is written as --name=value
+	 * @param allowFile
+	 * 	whether the file and help options are allowed, which they are not in a
+	 * 	scenario file
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if an option is unknown, is missing its value or has a
+	 * 	value that is not valid
+	 */
+	void parse(String[] args, boolean allowFile) {
+		for (int i = 0; i < args.length; i++) {
+			String arg = args[i];
+			if (!arg.startsWith("--")) {
+				throw new IllegalArgumentException("Error: Unexpected argument \"" + arg + "\".");
+			}
+			String name = arg;
+			String value = null;
+			int equals = arg.indexOf('=');
+			if (equals >= 0) {
+				name = arg.substring(0, equals);
+				value = arg.substring(equals + 1);
+			}
+
+			if (name.equals("--quiet") || name.equals("--antithetic") || name.equals("--estimate")
+			  || (allowFile && name.equals("--help")))
+			{
+				if (value != null) {
+					throw new IllegalArgumentException("Error: " + name + " does not take a value.");
+				}
+				if (name.equals("--quiet")) {
+					quiet = true;
+				} else if (name.equals("--antithetic")) {
+					antithetic = true;
+				} else if (name.equals("--estimate")) {
+					estimate = true;
+				} else {
+					help = true;
+				}
+				continue;
+			}
+			if (value == null) {
+				if (i + 1 == args.length) {
+					throw new IllegalArgumentException("Error: " + name + " needs a value.");
+				}
+				value = args[++i];
+			}
+
+			switch (name) {
+				case "--checkouts":
+					numberOfCheckouts = parseInt(name, value);
+					break;
+				case "--arrival-prob":
+					arrivalProb = parseDouble(name, value);
+					break;
+				case "--workers":
+					numWorkers = parseInt(name, value);
+					break;
+				case "--duration":
+					duration = parseInt(name, value);
+					break;
+				case "--max-customers":
+					maxCustPerMin = parseInt(name, value);
+					break;
+				case "--seed":
+					seed = parseLong(name, value);
+					break;
+				case "--mode":
+					mode = parseMode(value);
+					break;
+				case "--ticks-per-minute":
+					ticksPerMinute = parseInt(name, value);
+					break;
+				case "--replications":
+					replications = parseInt(name, value);
+					if (replications < 1) {
+						throw new IllegalArgumentException("Error: --replications must be at least 1.");
+					}
+					break;
+				case "--precision":
+					precision = parseDouble(name, value);
+					if (!(precision > 0)) {
+						throw new IllegalArgumentException("Error: --precision must be positive.");
+					}
+					break;
+				case "--file":
+					if (!allowFile) {
+						throw new IllegalArgumentException("Error: A scenario file cannot name another file.");
+					}
+					file = value;
+					break;
+				default:
+					throw new IllegalArgumentException("Error: Unknown option " + name + ".");
+			}
+		}
+	}
+
+	/**
+	 * Helper method for reading a whole number option
+	 * @param name
+	 * 	the name of the option
+	 * @param value
+	 * 	the value given for it
+	 * @return
+	 * 	the number
+	 */
+	private static int parseInt(String name, String value) {
+		try {
+			return Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Error: " + name + " needs a whole number, not \""
+			  + value + "\".");
+		}
+	}
+
+	/**
+	 * Helper method for reading a long whole number option
+	 * @param name
+	 * 	the name of the option
+	 * @param value
+	 * 	the value given for it
+	 * @return
+	 * 	the number
+	 */
+	private static long parseLong(String name, String value) {
+		try {
+			return Long.parseLong(value);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Error: " + name + " needs a whole number, not \""
+			  + value + "\".");
+		}
+	}
+
+	/**
+	 * Helper method for reading a decimal number option
+	 * @param name
+	 * 	the name of the option
+	 * @param value
+	 * 	the value given for it
+	 * @return
+	 * 	the number
+	 */
+	private static double parseDouble(String name, String value) {
+		try {
+			return Double.parseDouble(value);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Error: " + name + " needs a number, not \""
+			  + value + "\".");
+		}
+	}
+
+	/**
+	 * Helper method for reading the mode option
+	 * @param value
+	 * 	discrete-event or minute-stepped, in any case
+	 * @return
+	 * 	the mode
+	 */
+	private static StoreSimulator.Mode parseMode(String value) {
+		try {
+			return StoreSimulator.Mode.valueOf(value.toUpperCase().replace('-', '_'));
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Error: --mode must be discrete-event or "
+			  + "minute-stepped, not \"" + value + "\".");
+		}
+	}
+
+	/**
+	 * Makes a simulator for the scenario, checking that every scenario option was given
+	 * @return
+	 * 	the store simulator
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if a scenario option is missing or the store simulator
+	 * 	rejects the scenario
+	 */
+	StoreSimulator newSimulator() {
+		checkComplete();
+		StoreSimulator store = seed == null
+		  ? new StoreSimulator(numberOfCheckouts, arrivalProb, numWorkers, duration, maxCustPerMin)
+		  : new StoreSimulator(numberOfCheckouts, arrivalProb, numWorkers, duration, maxCustPerMin,
+		  seed);
+		if (mode != null) {
+			store.setMode(mode);
+		}
+		if (ticksPerMinute != null) {
+			store.setTicksPerMinute(ticksPerMinute);
+		}
+		store.setQuiet(quiet);
+		return store;
+	}
+
+	/**
+	 * Makes a replication runner for the scenario, checking that every scenario option
+	 * was given
+	 * @return
+	 * 	the replication runner
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if a scenario option is missing, the store simulator
+	 * 	rejects the scenario, a precision is given with a single replication or a mode
+	 * 	or time resolution is given, which replications do not support
+	 */
+	ReplicationRunner newRunner() {
+		checkComplete();
+		if (precision > 0 && replications == 1) {
+			throw new IllegalArgumentException("Error: --precision needs at least 2 replications.");
+		}
+		if (mode != null || ticksPerMinute != null) {
+			throw new IllegalArgumentException("Error: Replications always run in discrete-event "
+			  + "mode at 1 tick per minute, so --mode and --ticks-per-minute cannot be used with "
+			  + "--replications, --precision or --antithetic.");
+		}
+		ReplicationRunner runner = new ReplicationRunner(numberOfCheckouts, arrivalProb,
+		  numWorkers, duration, maxCustPerMin);
+		if (seed != null) {
+			runner.setSeed(seed);
+		}
+		runner.setAntithetic(antithetic);
+		return runner;
+	}
+
+	/**
+	 * Helper method for checking that every scenario option was given
+	 */
+	private void checkComplete() {
+		String missing = numberOfCheckouts == null ? "--checkouts"
+		  : arrivalProb == null ? "--arrival-prob"
+		  : numWorkers == null ? "--workers"
+		  : duration == null ? "--duration"
+		  : maxCustPerMin == null ? "--max-customers"
+		  : null;
+		if (missing != null) {
+			throw new IllegalArgumentException("Error: The scenario needs " + missing + ".");
+		}
+	}
+
+	/**
+	 * Makes the queueing estimate of the scenario, checking that every scenario option
+	 * was given
+	 * @return
+	 * 	the queueing estimate
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if a scenario option is missing or the store simulator
+	 * 	would reject the scenario
+	 */
+	QueueingEstimate newEstimate() {
+		checkComplete();
+		return new QueueingEstimate(numberOfCheckouts, arrivalProb, numWorkers, duration,
+		  maxCustPerMin, ticksPerMinute == null ? 1 : ticksPerMinute);
+	}
+
+	/**
+	 * Checks whether only the queueing estimate is wanted
+	 * @return
+	 * 	whether the estimate option was given
+	 */
+	boolean isEstimate() {
+		return estimate;
+	}
+
+	/**
+	 * Checks whether the scenario runs replications rather than a single simulation
+	 * @return
+	 * 	whether replications, a precision or antithetic mode was given
+	 */
+	boolean isReplicated() {
+		return replications > 0 || precision > 0 || antithetic;
+	}
+
+	/**
+	 * Runs the replications of the scenario, a fixed amount of them or until the
+	 * precision is reached
+	 * @return
+	 * 	the merged performance metrics of the replications
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if a scenario option is missing or the store simulator
+	 * 	rejects the scenario
+	 */
+	ReplicationSummary runReplications() {
+		ReplicationRunner runner = newRunner();
+		if (precision == 0) {
+			return runner.run(Math.max(replications, 1));
+		}
+		int max = replications > 0 ? replications : MAX_REPLICATIONS;
+		return runner.runUntil(precision, Math.min(MIN_REPLICATIONS, max), max);
+	}
+
+	/**
+	 * Getter for the scenario file
+	 * @return
+	 * 	the path of the scenario file, - for standard input, or null if there is none
+	 */
+	String getFile() {
+		return file;
+	}
+
+	/**
+	 * Getter for the help option
+	 * @return
+	 * 	whether the usage message was asked for
+	 */
+	boolean isHelp() {
+		return help;
+	}
+}
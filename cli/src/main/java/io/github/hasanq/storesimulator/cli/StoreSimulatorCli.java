@@ -0,0 +1,171 @@
+package io.github.hasanq.storesimulator.cli;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+
+import io.github.hasanq.storesimulator.StoreSimulator;
+/**
+ * This class is the command line front end of the store simulator. It only reads the
+ * scenario from the user, the simulation itself lives in the core library. With no
+ * arguments it asks for the scenario on standard input, otherwise it takes the scenario
+ * as options or runs every scenario of a scenario file back to back in the same JVM, so
+ * start up and warm up are only paid once per batch.
+ */
+public class StoreSimulatorCli {
+	/**
+	 * Main method that runs the scenario given by the options, the scenarios of a file, or
+	 * a scenario entered by the user if there are no options. Errors in the options or
+	 * the file are reported before any simulation runs, and end the program with exit
+	 * status 1.
+	 * @param args
+	 * 	the options, see ScenarioOptions.USAGE
+	 */
+	public static void main(String[] args) {
+		if (args.length == 0) {
+			interactive();
+			return;
+		}
+
+		try {
+			ScenarioOptions options = new ScenarioOptions();
+			options.parse(args, true);
+			if (options.isHelp()) {
+				System.out.println(ScenarioOptions.USAGE);
+				return;
+			}
+
+			List<ScenarioOptions> scenarios = new ArrayList<>();
+			if (options.getFile() == null) {
+				scenarios.add(options);
+			} else {
+				readScenarios(options.getFile(), options, scenarios);
+			}
+
+			for (int i = 0; i < scenarios.size(); i++) {
+				ScenarioOptions scenario = scenarios.get(i);
+				if (options.getFile() != null) {
+					System.out.println((i > 0 ? "\n" : "") + "Running scenario " + (i + 1)
+					  + " of " + scenarios.size() + "...");
+				}
+				if (scenario.isEstimate()) {
+					System.out.println(scenario.newEstimate());
+				} else if (scenario.isReplicated()) {
+					System.out.println(scenario.runReplications());
+				} else {
+					scenario.newSimulator().simulate();
+				}
+			}
+		} catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			System.err.println("Run with --help for the list of options.");
+			System.exit(1);
+		} catch (IOException e) {
+			System.err.println("Error: Cannot read the scenario file: " + e.getMessage());
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Helper method for reading the scenarios of a scenario file
+	 * @param file
+	 * 	the path of the file, or - for standard input
+	 * @param defaults
+	 * 	the options given on the command line, used for anything a line leaves out
+	 * @param scenarios
+	 * 	the list the scenarios are added to
+	 * @throws IOException
+	 * 	throws this exception if the file cannot be read
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if a line has an option that is not valid or leaves out a
+	 * 	scenario option, naming the line
+	 */
+	private static void readScenarios(String file, ScenarioOptions defaults,
+	  List<ScenarioOptions> scenarios) throws IOException
+	{
+		String name = file.equals("-") ? "standard input" : file;
+		List<String> lines;
+		if (file.equals("-")) {
+			BufferedReader in = new BufferedReader(new InputStreamReader(System.in,
+			  StandardCharsets.UTF_8));
+			lines = new ArrayList<>();
+			for (String line = in.readLine(); line != null; line = in.readLine()) {
+				lines.add(line);
+			}
+		} else {
+			lines = Files.readAllLines(Paths.get(file));
+		}
+
+		for (int i = 0; i < lines.size(); i++) {
+			String line = lines.get(i);
+			int comment = line.indexOf('#');
+			if (comment >= 0) {
+				line = line.substring(0, comment);
+			}
+			line = line.trim();
+			if (line.isEmpty()) {
+				continue;
+			}
+
+			ScenarioOptions scenario = defaults.copy();
+			try {
+				scenario.parse(line.split("\\s+"), false);
+				if (scenario.isEstimate()) {
+					scenario.newEstimate();
+				} else if (scenario.isReplicated()) {
+					scenario.newRunner();
+				} else {
+					scenario.newSimulator();
+				}
+			} catch (IllegalArgumentException e) {
+				throw new IllegalArgumentException(e.getMessage().replaceFirst("^Error: ",
+				  "Error: Line " + (i + 1) + " of " + name + ": "));
+			}
+			scenarios.add(scenario);
+		}
+
+		if (scenarios.isEmpty()) {
+			throw new IllegalArgumentException("Error: " + name + " has no scenarios.");
+		}
+	}
+
+	/**
+	 * Helper method that instantiates a store object using user provided inputs and then
+	 * runs a simulation on that store object.
+	 */
+	private static void interactive() {
+		Scanner sc = new Scanner(System.in);
+		
+		System.out.println("Starting store simulator...\n");
+		
+		try {
+			System.out.print("Enter the number of checkouts: ");
+			int numCheckouts = sc.nextInt();
+			
+			System.out.print("Enter the probability of customer arrival: ");
+			double arrivalProb = sc.nextDouble();
+			
+			System.out.print("Enter the amount of workers: ");
+			int numWorkers = sc.nextInt();
+			
+			System.out.print("Enter the duration of the simulation: ");
+			int duration = sc.nextInt();
+			
+			System.out.print("Enter the maximum amount of customers that can enter each minute: ");
+			int maxCustPerMin = sc.nextInt();
+			
+			StoreSimulator store = new StoreSimulator(numCheckouts, 
+			  arrivalProb, numWorkers, duration, maxCustPerMin);
+			store.simulate();
+		} catch (IllegalArgumentException e) {
+			System.out.println("\n" + e.getMessage());
+		}
+		sc.close();
+	}	
+}
@@ -0,0 +1,188 @@
+package io.github.hasanq.storesimulator.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.hasanq.storesimulator.SimulationResults;
+import io.github.hasanq.storesimulator.StoreSimulator;
+
+/**
+ * This class represents the checks of the command line options: both ways of giving a
+ * value, scenario files, and the combinations of options that are rejected.
+ */
+class ScenarioOptionsTest {
+	private static final String[] SCENARIO = {"--checkouts", "3", "--arrival-prob", "0.7",
+	  "--workers", "1", "--duration", "90", "--max-customers", "4", "--seed", "12"};
+
+	/**
+	 * Checks that a value after the option and a value after an equals sign give the
+	 * same scenario as building the simulator directly
+	 */
+	@Test
+	void parsesBothValueForms() {
+		ScenarioOptions separate = parse(true, "--checkouts", "3", "--arrival-prob", "0.7",
+		  "--workers", "1", "--duration", "90", "--max-customers", "4", "--seed", "12",
+		  "--mode", "minute-stepped", "--ticks-per-minute", "5", "--quiet");
+		ScenarioOptions equals = parse(true, "--checkouts=3", "--arrival-prob=0.7",
+		  "--workers=1", "--duration=90", "--max-customers=4", "--seed=12",
+		  "--mode=minute-stepped", "--ticks-per-minute=5", "--quiet");
+
+		StoreSimulator expected = new StoreSimulator(3, 0.7, 1, 90, 4, 12L);
+		expected.setQuiet(true);
+		expected.setMode(StoreSimulator.Mode.MINUTE_STEPPED);
+		expected.setTicksPerMinute(5);
+		SimulationResults results = expected.run();
+
+		for (ScenarioOptions options : new ScenarioOptions[] {separate, equals}) {
+			StoreSimulator simulator = options.newSimulator();
+			assertEquals(12L, simulator.getSeed());
+			assertEquals(StoreSimulator.Mode.MINUTE_STEPPED, simulator.getMode());
+			assertEquals(5, simulator.getTicksPerMinute());
+			assertTrue(simulator.isQuiet());
+			assertFalse(options.isReplicated());
+			assertFalse(options.isEstimate());
+			SimulationResults actual = simulator.run();
+			assertEquals(results.getTotalCustomers(), actual.getTotalCustomers());
+			assertEquals(results.getGross(), actual.getGross());
+			assertEquals(results.getAggregateWaitTime(), actual.getAggregateWaitTime());
+		}
+	}
+
+	/**
+	 * Checks that a line of a scenario file uses the command line options for anything it
+	 * leaves out, and that it cannot name another file
+	 */
+	@Test
+	void scenarioFiles() {
+		ScenarioOptions command = parse(true, "--file", "scenarios.txt", "--workers", "2",
+		  "--seed", "3", "--quiet");
+		assertEquals("scenarios.txt", command.getFile());
+		assertEquals("-", parse(true, "--file=-").getFile());
+
+		ScenarioOptions line = command.copy();
+		line.parse(new String[] {"--checkouts", "2", "--arrival-prob", "0.5", "--duration",
+		  "60", "--max-customers", "3"}, false);
+		assertNull(line.getFile());
+		StoreSimulator simulator = line.newSimulator();
+		assertEquals(3L, simulator.getSeed());
+		assertTrue(simulator.isQuiet());
+
+		ScenarioOptions other = command.copy();
+		assertThrows(IllegalArgumentException.class,
+		  () -> other.parse(new String[] {"--file", "more.txt"}, false));
+		assertThrows(IllegalArgumentException.class,
+		  () -> other.parse(new String[] {"--help"}, false));
+	}
+
+	/**
+	 * Checks the options that are not scenario values
+	 */
+	@Test
+	void flags() {
+		assertTrue(parse(true, "--help").isHelp());
+		assertTrue(parse(true, "--estimate").isEstimate());
+		assertTrue(parse(true, "--antithetic").isReplicated());
+		assertTrue(parse(true, "--replications", "5").isReplicated());
+		assertTrue(parse(true, "--precision=0.05").isReplicated());
+		assertEquals(StoreSimulator.Mode.DISCRETE_EVENT,
+		  parse(true, append(SCENARIO, "--mode", "discrete-event")).newSimulator().getMode());
+	}
+
+	/**
+	 * Checks that options that are unknown, are missing a value or have a value that is
+	 * not allowed are rejected while parsing
+	 */
+	@Test
+	void rejectsBadOptions() {
+		assertRejected("--tills", "3");
+		assertRejected("checkouts", "3");
+		assertRejected("--checkouts");
+		assertRejected("--checkouts", "three");
+		assertRejected("--arrival-prob=high");
+		assertRejected("--quiet=yes");
+		assertRejected("--mode", "hourly");
+		assertRejected("--replications", "0");
+		assertRejected("--precision", "0");
+		assertRejected("--precision=-0.1");
+	}
+
+	/**
+	 * Checks the combinations of options that are only rejected once the simulation is
+	 * set up
+	 */
+	@Test
+	void rejectsBadCombinations() {
+		for (String[] replicated : new String[][] {{"--replications", "5"},
+		  {"--precision", "0.05"}, {"--antithetic"}})
+		{
+			for (String[] setting : new String[][] {{"--mode", "minute-stepped"},
+			  {"--ticks-per-minute", "10"}})
+			{
+				String[] args = append(append(SCENARIO, replicated), setting);
+				ScenarioOptions options = parse(true, args);
+				assertTrue(options.isReplicated());
+				assertThrows(IllegalArgumentException.class, options::newRunner,
+				  String.join(" ", args));
+			}
+		}
+
+		ScenarioOptions single = parse(true, append(SCENARIO, "--precision", "0.05",
+		  "--replications", "1"));
+		assertThrows(IllegalArgumentException.class, single::newRunner);
+		assertThrows(IllegalArgumentException.class, single::runReplications);
+
+		ScenarioOptions missing = parse(true, "--checkouts", "3", "--arrival-prob", "0.7");
+		assertThrows(IllegalArgumentException.class, missing::newSimulator);
+		assertThrows(IllegalArgumentException.class, missing::newRunner);
+		assertThrows(IllegalArgumentException.class, missing::newEstimate);
+
+		assertEquals(12L, parse(true, append(SCENARIO, "--antithetic")).newRunner().getSeed());
+	}
+
+	/**
+	 * Helper method for parsing options
+	 * @param allowFile
+	 * 	if --file and --help are allowed, which they are on the command line
+	 * @param args
+	 * 	the options
+	 * @return
+	 * 	the parsed options
+	 */
+	private static ScenarioOptions parse(boolean allowFile, String... args) {
+		ScenarioOptions options = new ScenarioOptions();
+		options.parse(args, allowFile);
+		return options;
+	}
+
+	/**
+	 * Helper method for checking that options added to a complete scenario are rejected
+	 * while parsing
+	 * @param args
+	 * 	the options added to the scenario
+	 */
+	private static void assertRejected(String... args) {
+		assertThrows(IllegalArgumentException.class, () -> parse(true, append(SCENARIO, args)),
+		  String.join(" ", args));
+	}
+
+	/**
+	 * Helper method for adding options to the end of others
+	 * @param first
+	 * 	the options that come first
+	 * @param rest
+	 * 	the options added after them
+	 * @return
+	 * 	every option in order
+	 */
+	private static String[] append(String[] first, String... rest) {
+		String[] args = new String[first.length + rest.length];
+		System.arraycopy(first, 0, args, 0, first.length);
+		System.arraycopy(rest, 0, args, first.length, rest.length);
+		return args;
+	}
+}
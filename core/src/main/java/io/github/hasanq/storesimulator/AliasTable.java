@@ -0,0 +1,71 @@
+package io.github.hasanq.storesimulator;
+
+import java.util.random.RandomGenerator;
+/**
+ * This class represents a discrete distribution over 0 to n - 1 stored as an alias table
+ * built with Vose's method. Every column holds the probability of its own outcome and the
+ * outcome it borrows the rest from, so drawing an outcome takes a single random number.
+ */
+class AliasTable {
+	private double[] probability;
+	private int[] alias;
+
+	/**
+	 * Constructor for an alias table
+	 * @param weights
+	 * 	the probability of every outcome, adding up to 1
+	 */
+	AliasTable(double[] weights) {
+		int n = weights.length;
+		probability = new double[n];
+		alias = new int[n];
+
+		double[] scaled = new double[n];
+		int[] small = new int[n];
+		int[] large = new int[n];
+		int smallCount = 0;
+		int largeCount = 0;
+
+		for (int i = 0; i < n; i++) {
+			scaled[i] = weights[i] * n;
+			if (scaled[i] < 1) {
+				small[smallCount++] = i;
+			} else {
+				large[largeCount++] = i;
+			}
+		}
+
+		while (smallCount > 0 && largeCount > 0) {
+			int less = small[--smallCount];
+			int more = large[--largeCount];
+			probability[less] = scaled[less];
+			alias[less] = more;
+
+			scaled[more] = (scaled[more] + scaled[less]) - 1;
+			if (scaled[more] < 1) {
+				small[smallCount++] = more;
+			} else {
+				large[largeCount++] = more;
+			}
+		}
+		while (largeCount > 0) {
+			probability[large[--largeCount]] = 1;
+		}
+		while (smallCount > 0) {
+			probability[small[--smallCount]] = 1;
+		}
+	}
+
+	/**
+	 * Draws an outcome
+	 * @param random
+	 * 	the random stream to draw from
+	 * @return
+	 * 	the outcome, between 0 and n - 1
+	 */
+	int sample(RandomGenerator random) {
+		double u = random.nextDouble() * probability.length;
+		int column = (int) u;
+		return u - column < probability[column] ? column : alias[column];
+	}
+}
@@ -0,0 +1,57 @@
+package io.github.hasanq.storesimulator;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+/**
+ * This class represents the antithetic mirror of a random stream. Every number it draws
+ * is the opposite of the number the stream would have drawn: 1 - u - 2^-53 for a double
+ * u, bound - 1 - n for a whole number n below bound, and the complement of every bit for
+ * a long. A simulation run on the mirrored streams is negatively correlated with the same
+ * simulation run on the original streams, so the average of the two varies less than the
+ * average of two independent runs.
+ */
+class AntitheticRandom implements RandomGenerator {
+	private SplittableRandom random;
+
+	/**
+	 * Constructor for the mirror of a stream
+	 * @param random
+	 * 	the stream being mirrored, which should not be used for anything else
+	 */
+	AntitheticRandom(SplittableRandom random) {
+		this.random = random;
+	}
+
+	/**
+	 * Draws a long with every bit flipped
+	 * @return
+	 * 	the complement of the next long of the stream
+	 */
+	@Override
+	public long nextLong() {
+		return ~random.nextLong();
+	}
+
+	/**
+	 * Draws a whole number below a bound, mirrored around the middle of the range
+	 * @param bound
+	 * 	one more than the largest number that can be drawn
+	 * @return
+	 * 	bound - 1 minus the next number the stream draws below bound
+	 */
+	@Override
+	public int nextInt(int bound) {
+		return bound - 1 - random.nextInt(bound);
+	}
+
+	/**
+	 * Draws a double between 0 and 1 from the flipped bits, which is exactly
+	 * 1 - u - 2^-53 for the double u the stream would have drawn, so it is never 1
+	 * @return
+	 * 	the mirrored double
+	 */
+	@Override
+	public double nextDouble() {
+		return (nextLong() >>> 11) * 0x1.0p-53;
+	}
+}
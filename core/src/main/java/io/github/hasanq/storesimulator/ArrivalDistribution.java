@@ -0,0 +1,139 @@
+package io.github.hasanq.storesimulator;
+
+import java.util.random.RandomGenerator;
+/**
+ * This class represents the distribution of how many customers arrive in a minute. The
+ * simulator used to draw a number of candidates between 0 and maxCustPerMin and then let
+ * each of them arrive with the arrival probability, which takes one random draw per
+ * candidate. The number of arrivals that process gives has the distribution
+ *
+ * 	P(n) = P(Binomial(maxCustPerMin + 1, arrivalProb) > n) / (arrivalProb * (maxCustPerMin + 1))
+ *
+ * so this class works that out once and puts it in an AliasTable, which draws the number
+ * of arrivals of a minute with a single random number.
+ */
+public class ArrivalDistribution {
+	private AliasTable table;
+	private double mean;
+	private double variance;
+
+	/**
+	 * Constructor for the arrival distribution of a store
+	 * @param maxCustPerMin
+	 * 	the maximum amount of customers that can enter in a given minute
+	 * @param arrivalProb
+	 * 	the probability of each of those customers arriving
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if maxCustPerMin is negative or arrivalProb is not between
+	 * 	0 and 1
+	 */
+	public ArrivalDistribution(int maxCustPerMin, double arrivalProb) {
+		if (maxCustPerMin < 0) {
+			throw new IllegalArgumentException("Error: Maximum customers per minute cannot be negative.");
+		}
+		if (arrivalProb <= 0 || arrivalProb > 1) {
+			throw new IllegalArgumentException("Error: Arrival probability must be between 0 and 1.");
+		}
+
+		double[] weights = arrivalWeights(maxCustPerMin, arrivalProb);
+		double squares = 0;
+		for (int n = 0; n < weights.length; n++) {
+			mean += n * weights[n];
+			squares += (double) n * n * weights[n];
+		}
+		variance = Math.max(0, squares - mean * mean);
+		table = new AliasTable(weights);
+	}
+
+	/**
+	 * Helper method for working out the probability of every number of arrivals from the
+	 * upper tail of Binomial(maxCustPerMin + 1, arrivalProb), with the binomial terms
+	 * computed as logarithms so large maximums do not underflow
+	 * @param maxCustPerMin
+	 * 	the maximum amount of customers that can enter in a given minute
+	 * @param arrivalProb
+	 * 	the probability of each of those customers arriving
+	 * @return
+	 * 	the probability of 0 to maxCustPerMin arrivals
+	 */
+	private static double[] arrivalWeights(int maxCustPerMin, double arrivalProb) {
+		int trials = maxCustPerMin + 1;
+		double[] binomial = new double[trials + 1];
+
+		if (arrivalProb == 1) {
+			binomial[trials] = 1;
+		} else {
+			double logP = Math.log(arrivalProb);
+			double logQ = Math.log1p(-arrivalProb);
+			double logChoose = 0;
+			for (int k = 0; k <= trials; k++) {
+				if (k > 0) {
+					logChoose += Math.log(trials - k + 1) - Math.log(k);
+				}
+				binomial[k] = Math.exp(logChoose + k * logP + (trials - k) * logQ);
+			}
+		}
+
+		double[] weights = new double[trials];
+		double tail = 0;
+		double total = 0;
+		for (int n = trials - 1; n >= 0; n--) {
+			tail += binomial[n + 1];
+			weights[n] = tail / (arrivalProb * trials);
+			total += weights[n];
+		}
+		for (int n = 0; n < trials; n++) {
+			weights[n] /= total;
+		}
+		return weights;
+	}
+
+	/**
+	 * Draws the number of customers arriving in one minute
+	 * @param random
+	 * 	the random stream of the arrivals
+	 * @return
+	 * 	the number of customers arriving
+	 */
+	public int sample(RandomGenerator random) {
+		return table.sample(random);
+	}
+
+	/**
+	 * Draws the number of customers arriving in every minute of a whole simulation at
+	 * once, giving the same numbers as calling sample once per minute
+	 * @param random
+	 * 	the random stream of the arrivals
+	 * @param minutes
+	 * 	the amount of minutes to draw arrivals for
+	 * @return
+	 * 	the number of customers arriving in each minute, the first minute first
+	 */
+	public int[] sample(RandomGenerator random, int minutes) {
+		int[] arrivals = new int[minutes];
+		AliasTable table = this.table;
+
+		for (int i = 0; i < minutes; i++) {
+			arrivals[i] = table.sample(random);
+		}
+		return arrivals;
+	}
+
+	/**
+	 * Getter for the mean
+	 * @return
+	 * 	the average number of customers arriving in a minute
+	 */
+	public double getMean() {
+		return mean;
+	}
+
+	/**
+	 * Getter for the variance
+	 * @return
+	 * 	the variance of the number of customers arriving in a minute
+	 */
+	public double getVariance() {
+		return variance;
+	}
+}
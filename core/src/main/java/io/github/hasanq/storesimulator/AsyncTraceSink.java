@@ -0,0 +1,437 @@
+package io.github.hasanq.storesimulator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+/**
+ * This class represents a trace of every customer event written to a file without
+ * slowing the simulation down. The simulation thread only copies each event into a
+ * fixed-size record of a preallocated ring buffer. A writer thread of its own formats the
+ * records as comma separated lines and writes them to the file in large batches. Only the
+ * simulation thread may report events, since the ring buffer has a single producer.
+ *
+ * The file has one line per event with the tick, the event, the customer number, the
+ * checkout number starting at 1, and a value: the number of items for an arrival, the
+ * service time in ticks for a service start and 0 otherwise.
+ */
+public class AsyncTraceSink implements SimulationListener, AutoCloseable {
+
+	/**
+	 * What the simulation does when the writer falls behind and the ring buffer is full.
+	 * BLOCK waits for the writer, so no events are lost. DROP throws away events until
+	 * there is room again. SAMPLE starts keeping only one in every sampleEvery events once
+	 * the ring buffer is half full, and drops events while it is full.
+	 */
+	public enum Backpressure {
+		BLOCK,
+		DROP,
+		SAMPLE
+	}
+
+	private static final int RECORD_LONGS = 4;
+	private static final int BATCH_BYTES = 1 << 16;
+	private static final int MAX_RECORD_BYTES = 96;
+	private static final long PARK_NANOS = 50_000;
+	private static final int DEFAULT_SAMPLE_EVERY = 8;
+
+	private static final byte[][] EVENT_NAMES = {
+		ascii("arrival"), ascii("service_start"), ascii("issue"), ascii("worker_assigned"),
+		ascii("departure")
+	};
+
+	private final long[] records;
+	private final int mask;
+	private final Backpressure backpressure;
+	private final int sampleEvery;
+	private final FileChannel channel;
+	private final ByteBuffer batch;
+	private final byte[] digits = new byte[20];
+	private final Thread writer;
+
+	private final AtomicLong published = new AtomicLong();
+	private final AtomicLong consumed = new AtomicLong();
+	private final AtomicLong written = new AtomicLong();
+	private volatile boolean closed;
+	private volatile Throwable failure;
+
+	private long tail;
+	private long cachedConsumed;
+	private long sampled;
+	private long dropped;
+
+	/**
+	 * Constructor for a trace sink that keeps one in every 8 events when sampling
+	 * @param file
+	 * 	the file the trace is written to, replacing anything already in it
+	 * @param capacity
+	 * 	the amount of events the ring buffer holds, rounded up to a power of two
+	 * @param backpressure
+	 * 	what to do when the ring buffer is full
+	 * @throws IOException
+	 * 	throws this exception if the file cannot be opened
+	 */
+	public AsyncTraceSink(Path file, int capacity, Backpressure backpressure) throws IOException {
+		this(file, capacity, backpressure, DEFAULT_SAMPLE_EVERY);
+	}
+
+	/**
+	 * Constructor for a trace sink
+	 * @param file
+	 * 	the file the trace is written to, replacing anything already in it
+	 * @param capacity
+	 * 	the amount of events the ring buffer holds, rounded up to a power of two
+	 * @param backpressure
+	 * 	what to do when the ring buffer is full
+	 * @param sampleEvery
+	 * 	how many events to keep one of while sampling
+	 * @throws IOException
+	 * 	throws this exception if the file cannot be opened
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if capacity is less than 2, is too large, or sampleEvery is
+	 * 	less than 1
+	 */
+	public AsyncTraceSink(Path file, int capacity, Backpressure backpressure, int sampleEvery)
+	  throws IOException
+	{
+		if (capacity < 2 || capacity > 1 << 26) {
+			throw new IllegalArgumentException("Error: Capacity must be between 2 and "
+			  + (1 << 26) + ".");
+		}
+		if (sampleEvery < 1) {
+			throw new IllegalArgumentException("Error: Sampling must keep at least one in every event.");
+		}
+
+		int size = Integer.highestOneBit(capacity - 1) << 1;
+		records = new long[size * RECORD_LONGS];
+		mask = size - 1;
+		this.backpressure = backpressure;
+		this.sampleEvery = sampleEvery;
+		channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+		  StandardOpenOption.TRUNCATE_EXISTING);
+		batch = ByteBuffer.allocateDirect(BATCH_BYTES);
+		batch.put(ascii("tick,event,customer,checkout,value\n"));
+
+		writer = new Thread(this::drain, "trace-writer");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	/**
+	 * Helper method for turning text into ASCII bytes
+	 * @param text
+	 * 	the text
+	 * @return
+	 * 	the bytes of the text
+	 */
+	private static byte[] ascii(String text) {
+		return text.getBytes(StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * Records a customer joining a line
+	 * @param tick
+	 * 	the tick the customer arrived at
+	 * @param customer
+	 * 	the customer number
+	 * @param numberOfItems
+	 * 	the number of items the customer has
+	 * @param checkout
+	 * 	the index of the checkout the customer joined
+	 */
+	@Override
+	public void onArrival(int tick, long customer, int numberOfItems, int checkout) {
+		offer(EventLogWriter.ARRIVAL, tick, customer, checkout, numberOfItems);
+	}
+
+	/**
+	 * Records a customer starting at a checkout
+	 * @param tick
+	 * 	the tick the customer started at
+	 * @param customer
+	 * 	the customer number
+	 * @param checkout
+	 * 	the index of the checkout
+	 * @param serviceTicks
+	 * 	the number of ticks the customer will spend at the checkout
+	 */
+	@Override
+	public void onServiceStart(int tick, long customer, int checkout, long serviceTicks) {
+		offer(EventLogWriter.SERVICE_START, tick, customer, checkout, serviceTicks);
+	}
+
+	/**
+	 * Records a customer with an issue waiting for a worker
+	 * @param tick
+	 * 	the tick the customer reached the checkout at
+	 * @param customer
+	 * 	the customer number
+	 * @param checkout
+	 * 	the index of the checkout
+	 */
+	@Override
+	public void onIssue(int tick, long customer, int checkout) {
+		offer(EventLogWriter.ISSUE, tick, customer, checkout, 0);
+	}
+
+	/**
+	 * Records a worker being assigned to a customer
+	 * @param tick
+	 * 	the tick the worker was assigned at
+	 * @param customer
+	 * 	the customer number
+	 * @param checkout
+	 * 	the index of the checkout
+	 */
+	@Override
+	public void onWorkerAssigned(int tick, long customer, int checkout) {
+		offer(EventLogWriter.WORKER_ASSIGNED, tick, customer, checkout, 0);
+	}
+
+	/**
+	 * Records a customer leaving their checkout
+	 * @param tick
+	 * 	the tick the customer left at
+	 * @param customer
+	 * 	the customer number
+	 * @param checkout
+	 * 	the index of the checkout
+	 */
+	@Override
+	public void onDeparture(int tick, long customer, int checkout) {
+		offer(EventLogWriter.DEPARTURE, tick, customer, checkout, 0);
+	}
+
+	/**
+	 * Waits for every event of the simulation to be written once it is done
+	 * @param tick
+	 * 	the first tick after the end of the simulation
+	 */
+	@Override
+	public void onFinish(int tick) {
+		flush();
+	}
+
+	/**
+	 * Helper method for copying an event into the next record of the ring buffer. Where
+	 * the writer has got to is only read again when the ring buffer looks full, so most
+	 * events touch nothing the writer thread writes to. A writer that failed stops making
+	 * room, so that is also when a failure is passed on, whatever the backpressure.
+	 * @param type
+	 * 	the kind of event
+	 * @param tick
+	 * 	the tick of the event
+	 * @param customer
+	 * 	the customer number
+	 * @param checkout
+	 * 	the index of the checkout
+	 * @param value
+	 * 	the value written in the last column
+	 * @throws UncheckedIOException
+	 * 	throws this exception if writing to the file failed
+	 * @throws IllegalStateException
+	 * 	throws this exception if the writer thread failed in any other way
+	 */
+	private void offer(int type, int tick, long customer, int checkout, long value) {
+		int capacity = mask + 1;
+		long used = tail - cachedConsumed;
+		if (used >= capacity || (backpressure == Backpressure.SAMPLE && used >= capacity / 2)) {
+			checkFailure();
+			cachedConsumed = consumed.get();
+			used = tail - cachedConsumed;
+		}
+
+		switch (backpressure) {
+			case BLOCK:
+				while (used >= capacity) {
+					checkFailure();
+					LockSupport.unpark(writer);
+					LockSupport.parkNanos(PARK_NANOS);
+					cachedConsumed = consumed.get();
+					used = tail - cachedConsumed;
+				}
+				break;
+			case DROP:
+				if (used >= capacity) {
+					dropped++;
+					return;
+				}
+				break;
+			case SAMPLE:
+				if (used >= capacity || (used >= capacity / 2 && sampled++ % sampleEvery != 0)) {
+					dropped++;
+					return;
+				}
+				break;
+		}
+
+		int slot = (int) (tail & mask) * RECORD_LONGS;
+		records[slot] = ((long) type << 32) | (tick & 0xffffffffL);
+		records[slot + 1] = customer;
+		records[slot + 2] = checkout;
+		records[slot + 3] = value;
+		tail++;
+		published.lazySet(tail);
+	}
+
+	/**
+	 * Waits until every event reported so far has been written to the file
+	 * @throws UncheckedIOException
+	 * 	throws this exception if writing to the file failed
+	 * @throws IllegalStateException
+	 * 	throws this exception if the writer thread failed in any other way
+	 */
+	public void flush() {
+		LockSupport.unpark(writer);
+		while (written.get() < tail) {
+			checkFailure();
+			LockSupport.parkNanos(PARK_NANOS);
+		}
+		checkFailure();
+	}
+
+	/**
+	 * Writes every remaining event, stops the writer thread and closes the file
+	 * @throws UncheckedIOException
+	 * 	throws this exception if writing to or closing the file failed
+	 * @throws IllegalStateException
+	 * 	throws this exception if the writer thread failed in any other way
+	 */
+	@Override
+	public void close() {
+		try {
+			flush();
+		} finally {
+			closed = true;
+			LockSupport.unpark(writer);
+			try {
+				writer.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			try {
+				channel.close();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	/**
+	 * Getter for the dropped events
+	 * @return
+	 * 	the amount of events thrown away because the writer had fallen behind
+	 */
+	public long getDropped() {
+		return dropped;
+	}
+
+	/**
+	 * Helper method for passing on a failure of the writer thread to the simulation
+	 * @throws UncheckedIOException
+	 * 	throws this exception if writing to the file failed
+	 * @throws IllegalStateException
+	 * 	throws this exception if the writer thread failed in any other way
+	 */
+	private void checkFailure() {
+		Throwable failure = this.failure;
+		if (failure instanceof IOException) {
+			throw new UncheckedIOException((IOException) failure);
+		}
+		if (failure != null) {
+			throw new IllegalStateException("Error: The trace writer failed.", failure);
+		}
+	}
+
+	/**
+	 * Helper method run by the writer thread. It formats every record published so far
+	 * into the batch buffer, writes the buffer out whenever it fills up, and writes out
+	 * what is left once it has caught up with the simulation before waiting for more.
+	 * Anything it throws is kept for the simulation thread, so flush and close never wait
+	 * for a writer that has stopped.
+	 */
+	private void drain() {
+		long head = 0;
+		try {
+			while (true) {
+				long available = published.get();
+				if (head == available) {
+					if (batch.position() > 0) {
+						writeBatch();
+					}
+					written.set(head);
+					if (closed) {
+						return;
+					}
+					LockSupport.parkNanos(PARK_NANOS);
+					continue;
+				}
+
+				while (head < available) {
+					if (batch.remaining() < MAX_RECORD_BYTES) {
+						writeBatch();
+						consumed.lazySet(head);
+					}
+					format((int) (head & mask) * RECORD_LONGS);
+					head++;
+				}
+				consumed.lazySet(head);
+			}
+		} catch (Throwable e) {
+			failure = e;
+		}
+	}
+
+	/**
+	 * Helper method for formatting a record as a line of the trace
+	 * @param slot
+	 * 	the position of the record in the ring buffer
+	 */
+	private void format(int slot) {
+		long header = records[slot];
+		putNumber(header & 0xffffffffL);
+		batch.put((byte) ',');
+		batch.put(EVENT_NAMES[(int) (header >>> 32)]);
+		batch.put((byte) ',');
+		putNumber(records[slot + 1]);
+		batch.put((byte) ',');
+		putNumber(records[slot + 2] + 1);
+		batch.put((byte) ',');
+		putNumber(records[slot + 3]);
+		batch.put((byte) '\n');
+	}
+
+	/**
+	 * Helper method for writing a number that is not negative as ASCII digits
+	 * @param number
+	 * 	the number
+	 */
+	private void putNumber(long number) {
+		int length = 0;
+		do {
+			digits[length++] = (byte) ('0' + number % 10);
+			number /= 10;
+		} while (number > 0);
+		while (length > 0) {
+			batch.put(digits[--length]);
+		}
+	}
+
+	/**
+	 * Helper method for writing the batch buffer out to the file
+	 * @throws IOException
+	 * 	throws this exception if writing to the file failed
+	 */
+	private void writeBatch() throws IOException {
+		batch.flip();
+		while (batch.hasRemaining()) {
+			channel.write(batch);
+		}
+		batch.clear();
+	}
+}
@@ -0,0 +1,53 @@
+package io.github.hasanq.storesimulator;
+
+import java.util.random.RandomGenerator;
+/**
+ * This interface represents a way of drawing what the items in a basket add up to. Every
+ * item is priced uniformly between 0 and Customer.MAX_ITEM_PRICE and costs the store 
+ * uniformly between 0 and Customer.MAX_ITEM_COST, so the totals of a basket can either be
+ * drawn one item at a time or straight from the distribution of the sum.
+ */
+public interface BasketSampler {
+	
+	/**
+	 * Draws the total price of a basket
+	 * @param numberOfItems
+	 * 	the number of items in the basket, between 0 and Customer.MAX_ITEMS
+	 * @param random
+	 * 	the random stream the prices are drawn from
+	 * @return
+	 * 	the total price of the items in cents
+	 */
+	int samplePriceInCents(int numberOfItems, RandomGenerator random);
+	
+	/**
+	 * Draws what the items of a basket cost the store
+	 * @param numberOfItems
+	 * 	the number of items in the basket, between 0 and Customer.MAX_ITEMS
+	 * @param random
+	 * 	the random stream the costs are drawn from
+	 * @return
+	 * 	the total cost of the items in cents
+	 */
+	int sampleCostInCents(int numberOfItems, RandomGenerator random);
+	
+	/**
+	 * Getter for the sampler that draws every item on its own, which takes one random 
+	 * number per item and is kept to validate the table sampler against
+	 * @return
+	 * 	the exact per-item sampler
+	 */
+	static BasketSampler exact() {
+		return ExactBasketSampler.INSTANCE;
+	}
+	
+	/**
+	 * Getter for the sampler that draws the totals from precomputed tables, which takes
+	 * one random number per basket whatever its size
+	 * @return
+	 * 	the table sampler shared by every simulation
+	 */
+	static BasketSampler table() {
+		return TableBasketSampler.getInstance();
+	}
+}
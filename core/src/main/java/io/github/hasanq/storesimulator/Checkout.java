@@ -0,0 +1,197 @@
+package io.github.hasanq.storesimulator;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+/**
+ * This class represents a self-checkout object which is a queue. Includes ordinary methods
+ * for a queue including enqueue, dequeue, peek and getSize. The queue is a circular array
+ * of customer indexes into a CustomerTable, which doubles in size when it fills up, so 
+ * enqueueing and dequeueing allocate nothing once it has grown to the longest line the
+ * checkout sees. Methods taking or returning Customer objects copy them in and out of
+ * the table.
+ */
+public class Checkout {
+	private static final int INITIAL_CAPACITY = 8;
+	private int[] checkout;
+	private int front;
+	private int size;
+	private CustomerTable customers;
+	private CheckoutHeap heap;
+	private int index;
+	
+	/**
+	 * no arg constructor, the checkout keeps its customers in a table of its own
+	 */
+	public Checkout() {
+		this(new CustomerTable());
+	}
+	
+	/**
+	 * Constructor for a checkout that keeps its customers in a shared table
+	 * @param customers
+	 * 	the table the customers in line are stored in
+	 */
+	public Checkout(CustomerTable customers) {
+		this.customers = customers;
+		checkout = new int[INITIAL_CAPACITY];
+	}
+	
+	/**
+	 * Connects the checkout to a heap that has to be told every time its size changes
+	 * @param heap
+	 * 	the heap keeping track of the least busy checkout
+	 * @param index
+	 * 	the index of this checkout in the heap
+	 */
+	void attach(CheckoutHeap heap, int index) {
+		this.heap = heap;
+		this.index = index;
+	}
+	
+	/**
+	 * Generated by PingPong
+	 * Getter method for customers
+	 * @return
+	 * 	the amount of customers inside a checkout object
+	 */
+	public List<Customer> getCustomers() {
+		return new LinkedList<>(customerView());
+	}
+	
+	/**
+	 * Read-only view of the customers in line, front of the line first. Unlike 
+	 * getCustomers nothing is copied up front, so the view changes along with the queue.
+	 * @return
+	 * 	a list that reads straight from the queue
+	 */
+	public List<Customer> customerView() {
+		return new AbstractList<Customer>() {
+			@Override
+			public Customer get(int i) {
+				if (i < 0 || i >= size) {
+					throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+				}
+				return customers.getCustomer(Checkout.this.get(i));
+			}
+			
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+	
+	/**
+	 * Adds a customer to a checkout queue
+	 * @param c
+	 * 	the customer object being added
+	 */
+	public void enqueue(Customer c) {
+		enqueueIndex(customers.add(c));
+	}
+	
+	/**
+	 * Adds a customer that is already in the customer table to the checkout queue
+	 * @param customer
+	 * 	the index of the customer in the table
+	 */
+	void enqueueIndex(int customer) {
+		if (size == checkout.length) {
+			grow();
+		}
+		checkout[(front + size) & (checkout.length - 1)] = customer;
+		size++;
+		if (heap != null) {
+			heap.increased(index);
+		}
+	}
+	
+	/**
+	 * Removes a customer from the checkout queue, and from the customer table
+	 */
+	public void dequeue() {
+		if (size == 0) {
+			return;
+		}
+		customers.remove(checkout[front]);
+		front = (front + 1) & (checkout.length - 1);
+		size--;
+		if (heap != null) {
+			heap.decreased(index);
+		}
+	}
+	
+	/**
+	 * Helper method for doubling the size of the circular array, unwrapping the queue so
+	 * the front of the line is at the start of the new array
+	 */
+	private void grow() {
+		int[] grown = Arrays.copyOfRange(checkout, front, front + checkout.length * 2);
+		System.arraycopy(checkout, 0, grown, checkout.length - front, front);
+		checkout = grown;
+		front = 0;
+	}
+	
+	/**
+	 * Helper method for reading a customer by their place in line
+	 * @param i
+	 * 	the place in line, 0 being the front
+	 * @return
+	 * 	the index of the customer at that place in line
+	 */
+	private int get(int i) {
+		return checkout[(front + i) & (checkout.length - 1)];
+	}
+	
+	/**
+	 * Returns the customer at the end of the queue, represents the customer scanning items
+	 * @return
+	 * 	The customer at the end of the queue
+	 */
+	public Customer peek() {
+		return size > 0 ? customers.getCustomer(checkout[front]) : null;
+	}
+	
+	/**
+	 * Returns the index of the customer at the end of the queue in the customer table
+	 * @return
+	 * 	the index of the customer at the end of the queue, -1 if the queue is empty
+	 */
+	int peekIndex() {
+		return size > 0 ? checkout[front] : -1;
+	}
+	
+	/**
+	 * Getter for the size of the queue
+	 * @return
+	 * 	how many customers are inside the queue
+	 */
+	public int getSize() {
+		return size;
+	}
+	
+	/**
+	 * Partially generated by PingPong
+	 * String representation of the checkout object
+	 * Adds a marker to the front of the checkout queue for ease of viewing
+	 * @return
+	 * 	A string representation of a checkout object including all the customers in it
+	 */
+	@Override
+	public String toString() {
+		StringBuilder output = new StringBuilder();
+		boolean isFirst = true;
+		
+		for (Customer c : customerView()) {
+			if (isFirst) {
+				output.append(c.toString()).append(" <-- Front of Line").append("\n");
+				isFirst = false;
+			} else {
+				output.append(c.toString()).append("\n");
+			}
+		}
+		return output.toString();
+	}
+}
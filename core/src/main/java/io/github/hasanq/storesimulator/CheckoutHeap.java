@@ -0,0 +1,118 @@
+package io.github.hasanq.storesimulator;
+
+/**
+ * This class represents an indexed min-heap of checkouts ordered by the size of their
+ * queue, with ties going to the lowest checkout number. It keeps its own copy of every
+ * queue size and is told about each enqueue and dequeue by the checkouts themselves, so
+ * finding the least busy checkout is O(1) and keeping it up to date is O(log n).
+ */
+class CheckoutHeap {
+	private int[] heap;
+	private int[] position;
+	private int[] size;
+
+	/**
+	 * Constructor for a heap of empty checkouts
+	 * @param numberOfCheckouts
+	 * 	the amount of checkouts in the heap
+	 */
+	public CheckoutHeap(int numberOfCheckouts) {
+		heap = new int[numberOfCheckouts];
+		position = new int[numberOfCheckouts];
+		size = new int[numberOfCheckouts];
+
+		for (int i = 0; i < numberOfCheckouts; i++) {
+			heap[i] = i;
+			position[i] = i;
+		}
+	}
+
+	/**
+	 * Finds the least busy checkout
+	 * @return
+	 * 	the index of the checkout with the fewest customers, the lowest index if there is
+	 * 	a tie
+	 */
+	public int leastBusy() {
+		return heap[0];
+	}
+
+	/**
+	 * Records that a customer joined a checkout
+	 * @param checkout
+	 * 	the index of the checkout
+	 */
+	void increased(int checkout) {
+		size[checkout]++;
+		siftDown(position[checkout]);
+	}
+
+	/**
+	 * Records that a customer left a checkout
+	 * @param checkout
+	 * 	the index of the checkout
+	 */
+	void decreased(int checkout) {
+		size[checkout]--;
+		siftUp(position[checkout]);
+	}
+
+	/**
+	 * Helper method for comparing two checkouts by queue size and then by index
+	 * @param a
+	 * 	the index of the first checkout
+	 * @param b
+	 * 	the index of the second checkout
+	 * @return
+	 * 	true if checkout a should be chosen before checkout b
+	 */
+	private boolean before(int a, int b) {
+		return size[a] < size[b] || (size[a] == size[b] && a < b);
+	}
+
+	/**
+	 * Helper method for moving a checkout towards the top of the heap
+	 * @param i
+	 * 	the position of the checkout in the heap
+	 */
+	private void siftUp(int i) {
+		int checkout = heap[i];
+
+		while (i > 0) {
+			int parent = (i - 1) >>> 1;
+			if (!before(checkout, heap[parent])) {
+				break;
+			}
+			heap[i] = heap[parent];
+			position[heap[i]] = i;
+			i = parent;
+		}
+		heap[i] = checkout;
+		position[checkout] = i;
+	}
+
+	/**
+	 * Helper method for moving a checkout towards the bottom of the heap
+	 * @param i
+	 * 	the position of the checkout in the heap
+	 */
+	private void siftDown(int i) {
+		int checkout = heap[i];
+		int half = heap.length >>> 1;
+
+		while (i < half) {
+			int child = 2 * i + 1;
+			if (child + 1 < heap.length && before(heap[child + 1], heap[child])) {
+				child++;
+			}
+			if (!before(heap[child], checkout)) {
+				break;
+			}
+			heap[i] = heap[child];
+			position[heap[i]] = i;
+			i = child;
+		}
+		heap[i] = checkout;
+		position[checkout] = i;
+	}
+}
@@ -0,0 +1,78 @@
+package io.github.hasanq.storesimulator;
+
+/**
+ * This class represents the outcome of comparing two scenarios over the same
+ * replications: a summary of each scenario and a summary of the difference between them,
+ * the alternative minus the baseline, replication by replication.
+ */
+public class ComparisonSummary {
+	private ReplicationSummary baseline = new ReplicationSummary();
+	private ReplicationSummary alternative = new ReplicationSummary();
+	private ReplicationSummary difference = new ReplicationSummary();
+
+	/**
+	 * Adds one replication of both scenarios to the summary
+	 * @param baselineMetrics
+	 * 	the metrics of the baseline scenario, in the order ReplicationSummary keeps them
+	 * @param alternativeMetrics
+	 * 	the metrics of the alternative scenario with the same random numbers
+	 */
+	void add(double[] baselineMetrics, double[] alternativeMetrics) {
+		double[] differenceMetrics = new double[baselineMetrics.length];
+		for (int i = 0; i < differenceMetrics.length; i++) {
+			differenceMetrics[i] = alternativeMetrics[i] - baselineMetrics[i];
+		}
+		baseline.add(baselineMetrics);
+		alternative.add(alternativeMetrics);
+		difference.add(differenceMetrics);
+	}
+
+	/**
+	 * Merges another comparison of the same scenarios into this one
+	 * @param other
+	 * 	the comparison of other replications
+	 */
+	public void combine(ComparisonSummary other) {
+		baseline.combine(other.baseline);
+		alternative.combine(other.alternative);
+		difference.combine(other.difference);
+	}
+
+	/**
+	 * Getter for the baseline
+	 * @return
+	 * 	the summary of the baseline scenario
+	 */
+	public ReplicationSummary getBaseline() {
+		return baseline;
+	}
+
+	/**
+	 * Getter for the alternative
+	 * @return
+	 * 	the summary of the alternative scenario
+	 */
+	public ReplicationSummary getAlternative() {
+		return alternative;
+	}
+
+	/**
+	 * Getter for the difference
+	 * @return
+	 * 	the summary of the alternative minus the baseline, whose confidence intervals
+	 * 	say how sure the comparison is
+	 */
+	public ReplicationSummary getDifference() {
+		return difference;
+	}
+
+	/**
+	 * String representation of the comparison
+	 * @return
+	 * 	the summary of the difference between the scenarios
+	 */
+	@Override
+	public String toString() {
+		return "\nAlternative minus Baseline:" + difference;
+	}
+}
@@ -0,0 +1,173 @@
+package io.github.hasanq.storesimulator;
+
+import java.io.PrintStream;
+/**
+ * This class represents the event log of a simulation printed as text, one line per 
+ * event under a heading for every minute. A simulation prints through one of these 
+ * unless it is in quiet mode, and that one also prints the table of every checkout at
+ * the end of each minute.
+ */
+public class ConsoleListener implements SimulationListener {
+	private PrintStream out;
+	private StoreSimulator store;
+	private int ticksPerMinute = 1;
+	private boolean minuteStarted;
+	
+	/**
+	 * no arg constructor, prints to standard output
+	 */
+	public ConsoleListener() {
+		this(System.out);
+	}
+	
+	/**
+	 * Constructor for a log printed to a given stream
+	 * @param out
+	 * 	the stream the log is printed to
+	 */
+	public ConsoleListener(PrintStream out) {
+		this.out = out;
+	}
+	
+	/**
+	 * Constructor for the log a simulation prints by default, to standard output with the
+	 * checkout tables of the simulation
+	 * @param store
+	 * 	the simulation whose checkouts are printed every minute
+	 */
+	ConsoleListener(StoreSimulator store) {
+		this(System.out);
+		this.store = store;
+	}
+	
+	/**
+	 * Remembers the number of ticks per minute, to print service times in minutes
+	 * @param numberOfCheckouts
+	 * 	the amount of checkouts in the store
+	 * @param ticksPerMinute
+	 * 	the number of ticks every minute is split into
+	 * @param duration
+	 * 	the amount of minutes the simulation runs for
+	 */
+	@Override
+	public void onStart(int numberOfCheckouts, int ticksPerMinute, int duration) {
+		this.ticksPerMinute = ticksPerMinute;
+		minuteStarted = false;
+	}
+	
+	/**
+	 * Prints the checkout tables of the minute that just ended, if any, and the heading
+	 * of the next minute. Nothing happens between the last event of a minute and the 
+	 * next heading, so the tables are the lines as they were at the end of that minute.
+	 * @param minute
+	 * 	the minute, starting at 1
+	 */
+	@Override
+	public void onMinute(int minute) {
+		printCheckouts();
+		out.println("\nMinute " + minute + ":\n");
+		minuteStarted = true;
+	}
+	
+	/**
+	 * Prints a customer joining a line
+	 * @param tick
+	 * 	the tick the customer arrived at
+	 * @param customer
+	 * 	the customer number
+	 * @param numberOfItems
+	 * 	the number of items the customer has
+	 * @param checkout
+	 * 	the index of the checkout the customer joined
+	 */
+	@Override
+	public void onArrival(int tick, long customer, int numberOfItems, int checkout) {
+		out.println("Customer #" + customer + " has joined the checkout queue with " 
+		  + numberOfItems + " item(s).");
+	}
+	
+	/**
+	 * Prints a customer starting at a checkout and how long they will take
+	 * @param tick
+	 * 	the tick the customer started at
+	 * @param customer
+	 * 	the customer number
+	 * @param checkout
+	 * 	the index of the checkout
+	 * @param serviceTicks
+	 * 	the number of ticks the customer will spend at the checkout
+	 */
+	@Override
+	public void onServiceStart(int tick, long customer, int checkout, long serviceTicks) {
+		out.println("Checkout #" + (checkout + 1) + ": Customer #" + customer 
+		  + " is currently at the self-checkout. (" 
+		  + String.format("%.2f", (double) serviceTicks / ticksPerMinute) 
+		  + " minutes remaining).");
+	}
+	
+	/**
+	 * Prints a customer with an issue waiting for a worker
+	 * @param tick
+	 * 	the tick the customer reached the checkout at
+	 * @param customer
+	 * 	the customer number
+	 * @param checkout
+	 * 	the index of the checkout
+	 */
+	@Override
+	public void onIssue(int tick, long customer, int checkout) {
+		out.println("Checkout #" + (checkout + 1) + ": Customer #" + customer 
+		  + " has an issue. No workers are available.");
+	}
+	
+	/**
+	 * Prints a worker being assigned to a customer with an issue
+	 * @param tick
+	 * 	the tick the worker was assigned at
+	 * @param customer
+	 * 	the customer number
+	 * @param checkout
+	 * 	the index of the checkout
+	 */
+	@Override
+	public void onWorkerAssigned(int tick, long customer, int checkout) {
+		out.println("Customer #" + customer + " has an issue. A worker has been assigned.");
+	}
+	
+	/**
+	 * Prints a customer leaving their checkout
+	 * @param tick
+	 * 	the tick the customer left at
+	 * @param customer
+	 * 	the customer number
+	 * @param checkout
+	 * 	the index of the checkout
+	 */
+	@Override
+	public void onDeparture(int tick, long customer, int checkout) {
+		out.println("Customer #" + customer + " has finished using self-checkout #" 
+		  + (checkout + 1) + ".");
+	}
+	
+	/**
+	 * Prints the checkout tables of the last minute and flushes the stream once the
+	 * simulation is done
+	 * @param tick
+	 * 	the first tick after the end of the simulation
+	 */
+	@Override
+	public void onFinish(int tick) {
+		printCheckouts();
+		out.flush();
+	}
+	
+	/**
+	 * Helper method for printing the checkout tables of the simulation once a minute has
+	 * been printed
+	 */
+	private void printCheckouts() {
+		if (store != null && minuteStarted) {
+			store.checkoutStatus(out);
+		}
+	}
+}
@@ -0,0 +1,184 @@
+package io.github.hasanq.storesimulator;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+/**
+ * This class represents a customer object with randomly generated values including
+ * number of items, which then calculates the price of those items and the total time
+ * taken by the customer, as well as the chance that a customer may have a scanning issue.
+ */
+public class Customer {
+	static final int MAX_ITEMS = 20;
+	static final double MAX_ITEM_PRICE = 10;
+	static final double MAX_ITEM_COST = 5;
+	static final double ISSUE_PROBABILITY = 0.2;
+	
+	private static final AtomicLong lastAssignedNumber = new AtomicLong();
+	private long number;
+	private int numberOfItems;
+	private double priceOfItems;
+	private boolean hasIssue;
+	
+	/**
+	 * No arg constructor, draws the customer from the random generator of the current 
+	 * thread and numbers them from a counter shared by all customers made this way
+	 */
+	public Customer() {
+		this(lastAssignedNumber.incrementAndGet(), ThreadLocalRandom.current(), 
+		  ThreadLocalRandom.current());
+	}
+	
+	/**
+	 * Constructor for a customer drawn from the random streams of a simulation, so that a
+	 * seeded simulation always generates the same customers. The prices are drawn one 
+	 * item at a time.
+	 * @param number
+	 * 	the customer number, given out by the simulation the customer belongs to
+	 * @param basketRandom
+	 * 	the random stream the number of items and their prices are drawn from
+	 * @param issueRandom
+	 * 	the random stream deciding if the customer has a scanning issue
+	 */
+	public Customer(long number, RandomGenerator basketRandom, RandomGenerator issueRandom) {
+		this(number, BasketSampler.exact(), basketRandom, issueRandom);
+	}
+	
+	/**
+	 * Constructor for a customer drawn from the random streams of a simulation, with the
+	 * price of the basket drawn by the given sampler
+	 * @param number
+	 * 	the customer number, given out by the simulation the customer belongs to
+	 * @param basketSampler
+	 * 	the way the total price of the items is drawn
+	 * @param basketRandom
+	 * 	the random stream the number of items and their prices are drawn from
+	 * @param issueRandom
+	 * 	the random stream deciding if the customer has a scanning issue
+	 */
+	public Customer(long number, BasketSampler basketSampler, RandomGenerator basketRandom, 
+	  RandomGenerator issueRandom) 
+	{
+		this.number = number;
+		
+		numberOfItems = basketRandom.nextInt(MAX_ITEMS) + 1;
+		priceOfItems = basketSampler.samplePriceInCents(numberOfItems, basketRandom) / 100.0;
+		hasIssue = issueRandom.nextDouble() < ISSUE_PROBABILITY;
+	}
+	
+	/**
+	 * Constructor for a customer with known values, used to read a customer back out of a
+	 * CustomerTable
+	 * @param number
+	 * 	the customer number
+	 * @param numberOfItems
+	 * 	the number of items
+	 * @param priceOfItems
+	 * 	the total price of the items
+	 * @param hasIssue
+	 * 	if the customer has a scanning issue
+	 */
+	Customer(long number, int numberOfItems, double priceOfItems, boolean hasIssue) {
+		this.number = number;
+		this.numberOfItems = numberOfItems;
+		this.priceOfItems = priceOfItems;
+		this.hasIssue = hasIssue;
+	}
+	
+	/*
+	 * All accessor/mutator methods generated by PingPong
+	 * Getter for customer number
+	 * @return
+	 * 	returns the customer number
+	 */
+	public long getNumber() {
+        return number;
+    }
+	
+	/**
+	 * Getter for number of items
+	 * @return
+	 * 	returns the number of items
+	 */
+    public int getNumberOfItems() {
+        return numberOfItems;
+    }
+    
+    /**
+     * Getter for the price of items
+     * @return
+     * 	returns a price per item which is then added up together to a final price
+     */
+    public double getPriceOfItems() {
+        return priceOfItems;
+    }
+
+    /**
+     * Represents if the customer has an issue or not
+     * @return
+     * 	a boolean value if the customer has an issue or not
+     */
+    public boolean hasIssue() {
+        return hasIssue;
+    }
+    
+    /**
+     * Calculates the total time spent including initialization and payment time
+     * @param initializationTime
+     * 	time for scanning coupons and cards
+     * @param timePerItem
+     * 	time for scanning per item
+     * @param fixTimePerIssue
+     * 	time to fix an issue given a worker is present
+     * @param paymentTime
+     * 	time to pay for items
+     * @return
+     * 	the total time spent by a customer
+     */
+    public double totalTimeSpent(double initializationTime, double timePerItem, 
+      double fixTimePerIssue, double paymentTime) 
+    {
+    	return totalTimeSpent(numberOfItems, hasIssue, initializationTime, timePerItem,
+    	  fixTimePerIssue, paymentTime);
+    }
+    
+    /**
+     * Calculates the total time spent by any customer, the one formula the simulator,
+     * the customer table and the queueing estimate all use
+     * @param numberOfItems
+     * 	the number of items of the customer
+     * @param hasIssue
+     * 	if the customer has a scanning issue
+     * @param initializationTime
+     * 	time for scanning coupons and cards
+     * @param timePerItem
+     * 	time for scanning per item
+     * @param fixTimePerIssue
+     * 	time to fix an issue given a worker is present
+     * @param paymentTime
+     * 	time to pay for items
+     * @return
+     * 	the total time spent by the customer
+     */
+    static double totalTimeSpent(int numberOfItems, boolean hasIssue, double initializationTime,
+      double timePerItem, double fixTimePerIssue, double paymentTime)
+    {
+    	return initializationTime + (timePerItem * numberOfItems) + 
+    	  (hasIssue ? fixTimePerIssue : 0) + paymentTime;
+    }
+    
+    /**
+     * Generated by PingPong
+     * 
+     * toString representation of the Customer object
+     * @return
+     * 	string representation of a customer
+     */
+    @Override
+    public String toString() {
+        return String.format("| Customer #%5d | %-2d item(s) | Total price: $%-6.2f |",
+                             number, 
+                             numberOfItems, 
+                             priceOfItems );
+    }
+}
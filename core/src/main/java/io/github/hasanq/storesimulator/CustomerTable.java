@@ -0,0 +1,232 @@
+package io.github.hasanq.storesimulator;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+/**
+ * This class represents every customer currently in a store as a table of columns instead
+ * of one object per customer: parallel arrays of customer numbers, item counts and prices
+ * in cents, plus a bitset of who has a scanning issue. A customer is referred to by the 
+ * index of their row, which the checkout queues hold instead of Customer objects. Rows of
+ * customers that have left are reused, so the table only grows to the most customers the
+ * store has held at once.
+ */
+public class CustomerTable {
+	private static final int INITIAL_CAPACITY = 64;
+	
+	private long[] numbers;
+	private byte[] itemCounts;
+	private int[] pricesInCents;
+	private int[] costsInCents;
+	private long[] issues;
+	private int[] freeRows;
+	private int freeCount;
+	private int rows;
+	
+	/**
+	 * no arg constructor
+	 */
+	public CustomerTable() {
+		numbers = new long[INITIAL_CAPACITY];
+		itemCounts = new byte[INITIAL_CAPACITY];
+		pricesInCents = new int[INITIAL_CAPACITY];
+		costsInCents = new int[INITIAL_CAPACITY];
+		issues = new long[INITIAL_CAPACITY / 64];
+		freeRows = new int[INITIAL_CAPACITY];
+	}
+	
+	/**
+	 * Adds a new customer drawn from the random streams of a simulation, drawing the same
+	 * values in the same order as the Customer constructor does
+	 * @param number
+	 * 	the customer number
+	 * @param basketSampler
+	 * 	the way the total price of the items is drawn
+	 * @param basketRandom
+	 * 	the random stream the number of items and their prices are drawn from
+	 * @param issueRandom
+	 * 	the random stream deciding if the customer has a scanning issue
+	 * @return
+	 * 	the index of the customer in the table
+	 */
+	public int add(long number, BasketSampler basketSampler, RandomGenerator basketRandom, 
+	  RandomGenerator issueRandom) 
+	{
+		int numberOfItems = basketRandom.nextInt(Customer.MAX_ITEMS) + 1;
+		int priceInCents = basketSampler.samplePriceInCents(numberOfItems, basketRandom);
+		boolean hasIssue = issueRandom.nextDouble() < Customer.ISSUE_PROBABILITY;
+		
+		return store(number, numberOfItems, priceInCents, hasIssue);
+	}
+	
+	/**
+	 * Adds a copy of an existing customer
+	 * @param c
+	 * 	the customer being added
+	 * @return
+	 * 	the index of the customer in the table
+	 */
+	public int add(Customer c) {
+		return store(c.getNumber(), c.getNumberOfItems(), 
+		  (int) Math.round(c.getPriceOfItems() * 100), c.hasIssue());
+	}
+	
+	/**
+	 * Helper method for storing a customer in a free row
+	 * @param number
+	 * 	the customer number
+	 * @param numberOfItems
+	 * 	the number of items
+	 * @param priceInCents
+	 * 	the total price of the items in cents
+	 * @param hasIssue
+	 * 	if the customer has a scanning issue
+	 * @return
+	 * 	the index of the row the customer was stored in
+	 */
+	private int store(long number, int numberOfItems, int priceInCents, boolean hasIssue) {
+		int index;
+		if (freeCount > 0) {
+			index = freeRows[--freeCount];
+		} else {
+			if (rows == numbers.length) {
+				grow();
+			}
+			index = rows++;
+		}
+		
+		numbers[index] = number;
+		itemCounts[index] = (byte) numberOfItems;
+		pricesInCents[index] = priceInCents;
+		costsInCents[index] = 0;
+		if (hasIssue) {
+			issues[index >>> 6] |= 1L << index;
+		} else {
+			issues[index >>> 6] &= ~(1L << index);
+		}
+		return index;
+	}
+	
+	/**
+	 * Removes a customer that has left the store so their row can be reused
+	 * @param index
+	 * 	the index of the customer in the table
+	 */
+	public void remove(int index) {
+		freeRows[freeCount++] = index;
+	}
+	
+	/**
+	 * Helper method for doubling the size of every column
+	 */
+	private void grow() {
+		int capacity = numbers.length * 2;
+		numbers = Arrays.copyOf(numbers, capacity);
+		itemCounts = Arrays.copyOf(itemCounts, capacity);
+		pricesInCents = Arrays.copyOf(pricesInCents, capacity);
+		costsInCents = Arrays.copyOf(costsInCents, capacity);
+		issues = Arrays.copyOf(issues, capacity / 64);
+		freeRows = Arrays.copyOf(freeRows, capacity);
+	}
+	
+	/**
+	 * Getter for customer number
+	 * @param index
+	 * 	the index of the customer in the table
+	 * @return
+	 * 	returns the customer number
+	 */
+	public long getNumber(int index) {
+		return numbers[index];
+	}
+	
+	/**
+	 * Getter for number of items
+	 * @param index
+	 * 	the index of the customer in the table
+	 * @return
+	 * 	returns the number of items
+	 */
+	public int getNumberOfItems(int index) {
+		return itemCounts[index];
+	}
+	
+	/**
+	 * Getter for the price of items
+	 * @param index
+	 * 	the index of the customer in the table
+	 * @return
+	 * 	returns the total price of the items in cents
+	 */
+	public int getPriceInCents(int index) {
+		return pricesInCents[index];
+	}
+	
+	/**
+	 * Getter for the cost of items
+	 * @param index
+	 * 	the index of the customer in the table
+	 * @return
+	 * 	returns what the items cost the store in cents, 0 unless it has been set
+	 */
+	public int getCostInCents(int index) {
+		return costsInCents[index];
+	}
+	
+	/**
+	 * Setter for the cost of items
+	 * @param index
+	 * 	the index of the customer in the table
+	 * @param costInCents
+	 * 	what the items cost the store in cents
+	 */
+	public void setCostInCents(int index, int costInCents) {
+		costsInCents[index] = costInCents;
+	}
+	
+	/**
+	 * Represents if the customer has an issue or not
+	 * @param index
+	 * 	the index of the customer in the table
+	 * @return
+	 * 	a boolean value if the customer has an issue or not
+	 */
+	public boolean hasIssue(int index) {
+		return (issues[index >>> 6] & (1L << index)) != 0;
+	}
+	
+	/**
+	 * Calculates the total time spent including initialization and payment time, the same
+	 * way as Customer.totalTimeSpent
+	 * @param index
+	 * 	the index of the customer in the table
+	 * @param initializationTime
+	 * 	time for scanning coupons and cards
+	 * @param timePerItem
+	 * 	time for scanning per item
+	 * @param fixTimePerIssue
+	 * 	time to fix an issue given a worker is present
+	 * @param paymentTime
+	 * 	time to pay for items
+	 * @return
+	 * 	the total time spent by a customer
+	 */
+	public double totalTimeSpent(int index, double initializationTime, double timePerItem, 
+	  double fixTimePerIssue, double paymentTime) 
+	{
+		return Customer.totalTimeSpent(itemCounts[index], hasIssue(index), initializationTime,
+		  timePerItem, fixTimePerIssue, paymentTime);
+	}
+	
+	/**
+	 * Reads a customer out of the table as a Customer object, for callers that still work
+	 * with customer objects. The object is a copy and does not change if the row is reused.
+	 * @param index
+	 * 	the index of the customer in the table
+	 * @return
+	 * 	the customer stored in that row
+	 */
+	public Customer getCustomer(int index) {
+		return new Customer(numbers[index], itemCounts[index], pricesInCents[index] / 100.0,
+		  hasIssue(index));
+	}
+}
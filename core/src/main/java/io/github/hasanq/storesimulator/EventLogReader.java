@@ -0,0 +1,210 @@
+package io.github.hasanq.storesimulator;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+/**
+ * This class represents a reader of the binary logs written by EventLogWriter. The file
+ * is memory-mapped a chunk at a time and read as a cursor: next moves to the following 
+ * event and the getters read its fields, so scanning a log of any size creates no 
+ * objects per event. Chunks hold a whole number of records, which lets logs larger than
+ * a single mapping be read.
+ */
+public class EventLogReader implements AutoCloseable {
+	static final int RECORDS_PER_CHUNK = (1 << 30) / EventLogWriter.RECORD_BYTES;
+	
+	private FileChannel channel;
+	private int ticksPerMinute;
+	private int numberOfCheckouts;
+	private int duration;
+	private long eventCount;
+	
+	private MappedByteBuffer chunk;
+	private long chunkStart;
+	private long position;
+	private int tick;
+	private int typeAndCheckout;
+	private long customer;
+	private int value;
+	
+	/**
+	 * Constructor for a reader of a log file
+	 * @param file
+	 * 	the log file
+	 * @throws IOException
+	 * 	throws this exception if the file cannot be read
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if the file is not an event log
+	 */
+	public EventLogReader(Path file) throws IOException {
+		channel = FileChannel.open(file, StandardOpenOption.READ);
+		long size = channel.size();
+		if (size < EventLogWriter.HEADER_BYTES) {
+			channel.close();
+			throw new IllegalArgumentException("Error: " + file + " is not an event log.");
+		}
+		
+		MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, 
+		  EventLogWriter.HEADER_BYTES);
+		header.order(ByteOrder.LITTLE_ENDIAN);
+		if (header.getInt(0) != EventLogWriter.MAGIC 
+		  || header.getInt(4) != EventLogWriter.VERSION) 
+		{
+			channel.close();
+			throw new IllegalArgumentException("Error: " + file + " is not an event log.");
+		}
+		ticksPerMinute = header.getInt(8);
+		numberOfCheckouts = header.getInt(12);
+		duration = header.getInt(16);
+		eventCount = (size - EventLogWriter.HEADER_BYTES) / EventLogWriter.RECORD_BYTES;
+		position = -1;
+	}
+	
+	/**
+	 * Moves to the next event
+	 * @return
+	 * 	true if there was another event, false if the end of the log has been reached
+	 * @throws IOException
+	 * 	throws this exception if the next chunk of the file cannot be mapped
+	 */
+	public boolean next() throws IOException {
+		if (position + 1 >= eventCount) {
+			return false;
+		}
+		position++;
+		
+		long record = position - chunkStart;
+		if (chunk == null || record >= RECORDS_PER_CHUNK) {
+			mapChunk(position);
+			record = 0;
+		}
+		
+		int offset = (int) record * EventLogWriter.RECORD_BYTES;
+		tick = chunk.getInt(offset);
+		typeAndCheckout = chunk.getInt(offset + 4);
+		customer = chunk.getLong(offset + 8);
+		value = chunk.getInt(offset + 16);
+		return true;
+	}
+	
+	/**
+	 * Helper method for mapping the chunk of the file that starts with a given event
+	 * @param first
+	 * 	the index of the first event of the chunk
+	 * @throws IOException
+	 * 	throws this exception if the file cannot be mapped
+	 */
+	private void mapChunk(long first) throws IOException {
+		long records = Math.min(RECORDS_PER_CHUNK, eventCount - first);
+		chunk = channel.map(FileChannel.MapMode.READ_ONLY, 
+		  EventLogWriter.HEADER_BYTES + first * EventLogWriter.RECORD_BYTES, 
+		  records * EventLogWriter.RECORD_BYTES);
+		chunk.order(ByteOrder.LITTLE_ENDIAN);
+		chunkStart = first;
+	}
+	
+	/**
+	 * Goes back to before the first event
+	 */
+	public void rewind() {
+		chunk = null;
+		chunkStart = 0;
+		position = -1;
+	}
+	
+	/**
+	 * Getter for the tick of the current event
+	 * @return
+	 * 	the tick the event happened at
+	 */
+	public int getTick() {
+		return tick;
+	}
+	
+	/**
+	 * Getter for the type of the current event
+	 * @return
+	 * 	one of the event types of EventLogWriter, such as EventLogWriter.ARRIVAL
+	 */
+	public int getType() {
+		return typeAndCheckout >>> EventLogWriter.LANE_BITS;
+	}
+	
+	/**
+	 * Getter for the checkout of the current event
+	 * @return
+	 * 	the index of the checkout
+	 */
+	public int getCheckout() {
+		return typeAndCheckout & ((1 << EventLogWriter.LANE_BITS) - 1);
+	}
+	
+	/**
+	 * Getter for the customer of the current event
+	 * @return
+	 * 	the customer number
+	 */
+	public long getCustomer() {
+		return customer;
+	}
+	
+	/**
+	 * Getter for the value of the current event
+	 * @return
+	 * 	the number of items for an arrival, the service time in ticks for a service 
+	 * 	start and 0 otherwise
+	 */
+	public int getValue() {
+		return value;
+	}
+	
+	/**
+	 * Getter for the number of events
+	 * @return
+	 * 	the amount of events in the log
+	 */
+	public long getEventCount() {
+		return eventCount;
+	}
+	
+	/**
+	 * Getter for the time resolution of the logged simulation
+	 * @return
+	 * 	the number of ticks every minute was split into
+	 */
+	public int getTicksPerMinute() {
+		return ticksPerMinute;
+	}
+	
+	/**
+	 * Getter for the number of checkouts of the logged simulation
+	 * @return
+	 * 	the amount of checkouts in the store
+	 */
+	public int getNumberOfCheckouts() {
+		return numberOfCheckouts;
+	}
+	
+	/**
+	 * Getter for the duration of the logged simulation
+	 * @return
+	 * 	the amount of minutes the simulation ran for
+	 */
+	public int getDuration() {
+		return duration;
+	}
+	
+	/**
+	 * Closes the file
+	 * @throws IOException
+	 * 	throws this exception if the file cannot be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		chunk = null;
+		channel.close();
+	}
+}
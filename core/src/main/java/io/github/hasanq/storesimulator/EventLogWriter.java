@@ -0,0 +1,239 @@
+package io.github.hasanq.storesimulator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+/**
+ * This class represents a binary log of every customer event of a simulation, for keeping
+ * full traces of long runs. The file starts with a header and then has one fixed-width
+ * record per event, all little endian:
+ *
+ * 	header, 24 bytes: the magic number 0x5353454C ("SSEL"), the format version, ticks
+ * 	per minute, number of checkouts, duration in minutes and a reserved int
+ *
+ * 	record, 20 bytes: the tick of the event (int), the event type in the top 5 bits and
+ * 	the checkout index in the low 27 bits (int), the customer number (long), and a value
+ * 	(int) that is the number of items for an arrival, the service time in ticks for a
+ * 	service start and 0 otherwise
+ *
+ * Every record stands on its own, so the reader can map any chunk of the log without
+ * reading the records before it. Records are packed into a direct buffer and written to
+ * a file channel whenever it fills up. The log is read back with EventLogReader.
+ */
+public class EventLogWriter implements SimulationListener, AutoCloseable {
+	public static final int ARRIVAL = 0;
+	public static final int SERVICE_START = 1;
+	public static final int ISSUE = 2;
+	public static final int WORKER_ASSIGNED = 3;
+	public static final int DEPARTURE = 4;
+
+	static final int MAGIC = 0x5353454C;
+	static final int VERSION = 2;
+	static final int HEADER_BYTES = 24;
+	static final int RECORD_BYTES = 20;
+	static final int LANE_BITS = 27;
+	private static final int BUFFER_BYTES = 1 << 16;
+
+	private FileChannel channel;
+	private ByteBuffer buffer;
+	private long events;
+
+	/**
+	 * Constructor for a log written to a file
+	 * @param file
+	 * 	the file the log is written to, replacing anything already in it
+	 * @throws IOException
+	 * 	throws this exception if the file cannot be opened
+	 */
+	public EventLogWriter(Path file) throws IOException {
+		channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+		  StandardOpenOption.TRUNCATE_EXISTING);
+		buffer = ByteBuffer.allocateDirect(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.putInt(MAGIC).putInt(VERSION).putInt(0).putInt(0).putInt(0).putInt(0);
+	}
+
+	/**
+	 * Fills in the header with the settings of the simulation being logged
+	 * @param numberOfCheckouts
+	 * 	the amount of checkouts in the store
+	 * @param ticksPerMinute
+	 * 	the number of ticks every minute is split into
+	 * @param duration
+	 * 	the amount of minutes the simulation runs for
+	 */
+	@Override
+	public void onStart(int numberOfCheckouts, int ticksPerMinute, int duration) {
+		try {
+			if (channel.position() == 0) {
+				buffer.putInt(8, ticksPerMinute).putInt(12, numberOfCheckouts).putInt(16, duration);
+			} else {
+				ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+				header.putInt(MAGIC).putInt(VERSION).putInt(ticksPerMinute)
+				  .putInt(numberOfCheckouts).putInt(duration).putInt(0).flip();
+				while (header.hasRemaining()) {
+					channel.write(header, header.position());
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Logs a customer joining a line
+	 * @param tick
+	 * 	the tick the customer arrived at
+	 * @param customer
+	 * 	the customer number
+	 * @param numberOfItems
+	 * 	the number of items the customer has
+	 * @param checkout
+	 * 	the index of the checkout the customer joined
+	 */
+	@Override
+	public void onArrival(int tick, long customer, int numberOfItems, int checkout) {
+		append(ARRIVAL, tick, customer, checkout, numberOfItems);
+	}
+
+	/**
+	 * Logs a customer starting at a checkout
+	 * @param tick
+	 * 	the tick the customer started at
+	 * @param customer
+	 * 	the customer number
+	 * @param checkout
+	 * 	the index of the checkout
+	 * @param serviceTicks
+	 * 	the number of ticks the customer will spend at the checkout
+	 */
+	@Override
+	public void onServiceStart(int tick, long customer, int checkout, long serviceTicks) {
+		append(SERVICE_START, tick, customer, checkout, (int) serviceTicks);
+	}
+
+	/**
+	 * Logs a customer with an issue waiting for a worker
+	 * @param tick
+	 * 	the tick the customer reached the checkout at
+	 * @param customer
+	 * 	the customer number
+	 * @param checkout
+	 * 	the index of the checkout
+	 */
+	@Override
+	public void onIssue(int tick, long customer, int checkout) {
+		append(ISSUE, tick, customer, checkout, 0);
+	}
+
+	/**
+	 * Logs a worker being assigned to a customer
+	 * @param tick
+	 * 	the tick the worker was assigned at
+	 * @param customer
+	 * 	the customer number
+	 * @param checkout
+	 * 	the index of the checkout
+	 */
+	@Override
+	public void onWorkerAssigned(int tick, long customer, int checkout) {
+		append(WORKER_ASSIGNED, tick, customer, checkout, 0);
+	}
+
+	/**
+	 * Logs a customer leaving their checkout
+	 * @param tick
+	 * 	the tick the customer left at
+	 * @param customer
+	 * 	the customer number
+	 * @param checkout
+	 * 	the index of the checkout
+	 */
+	@Override
+	public void onDeparture(int tick, long customer, int checkout) {
+		append(DEPARTURE, tick, customer, checkout, 0);
+	}
+
+	/**
+	 * Writes out the rest of the log once the simulation is done
+	 * @param tick
+	 * 	the first tick after the end of the simulation
+	 */
+	@Override
+	public void onFinish(int tick) {
+		flush();
+	}
+
+	/**
+	 * Helper method for adding a record to the buffer, writing the buffer out first if
+	 * the record does not fit
+	 * @param type
+	 * 	the kind of event
+	 * @param tick
+	 * 	the tick of the event
+	 * @param customer
+	 * 	the customer number
+	 * @param checkout
+	 * 	the index of the checkout
+	 * @param value
+	 * 	the value of the event
+	 */
+	private void append(int type, int tick, long customer, int checkout, int value) {
+		if (buffer.remaining() < RECORD_BYTES) {
+			flush();
+		}
+		buffer.putInt(tick);
+		buffer.putInt((type << LANE_BITS) | checkout);
+		buffer.putLong(customer);
+		buffer.putInt(value);
+		events++;
+	}
+
+	/**
+	 * Writes everything logged so far to the file
+	 * @throws UncheckedIOException
+	 * 	throws this exception if writing to the file failed
+	 */
+	public void flush() {
+		buffer.flip();
+		try {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			buffer.clear();
+		}
+	}
+
+	/**
+	 * Getter for the logged events
+	 * @return
+	 * 	the amount of events logged so far
+	 */
+	public long getEvents() {
+		return events;
+	}
+
+	/**
+	 * Writes out the rest of the log and closes the file
+	 * @throws UncheckedIOException
+	 * 	throws this exception if writing to or closing the file failed
+	 */
+	@Override
+	public void close() {
+		try {
+			flush();
+		} finally {
+			try {
+				channel.close();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+}
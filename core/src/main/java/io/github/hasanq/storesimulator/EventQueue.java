@@ -0,0 +1,138 @@
+package io.github.hasanq.storesimulator;
+
+import java.util.Arrays;
+/**
+ * This class represents the time ordered event queue used by the discrete-event simulator.
+ * Each event is packed into a single long key made up of the tick it happens at, the
+ * phase of the tick it belongs to, the checkout it applies to and the event type, so
+ * the queue is a plain binary min-heap of longs and scheduling an event allocates nothing.
+ * Events with the same tick are ordered by phase, then by checkout, then by type.
+ */
+class EventQueue {
+	private static final int TYPE_BITS = 3;
+	private static final int LANE_BITS = 27;
+	private static final int PHASE_BITS = 2;
+	private static final int LANE_SHIFT = TYPE_BITS;
+	private static final int PHASE_SHIFT = LANE_SHIFT + LANE_BITS;
+	private static final int TIME_SHIFT = PHASE_SHIFT + PHASE_BITS;
+
+	/**
+	 * The largest amount of checkouts an event key can address
+	 */
+	public static final int MAX_LANES = 1 << LANE_BITS;
+
+	private long[] heap;
+	private int size;
+
+	/**
+	 * no arg constructor
+	 */
+	public EventQueue() {
+		heap = new long[64];
+	}
+
+	/**
+	 * Schedules an event
+	 * @param time
+	 * 	the tick the event happens at
+	 * @param phase
+	 * 	the phase of the tick the event belongs to, lower phases are handled first
+	 * @param lane
+	 * 	the checkout the event applies to
+	 * @param type
+	 * 	the type of the event
+	 */
+	public void add(int time, int phase, int lane, int type) {
+		if (size == heap.length) {
+			heap = Arrays.copyOf(heap, size * 2);
+		}
+		long key = ((long) time << TIME_SHIFT) | ((long) phase << PHASE_SHIFT)
+		  | ((long) lane << LANE_SHIFT) | type;
+
+		int i = size++;
+		while (i > 0) {
+			int parent = (i - 1) >>> 1;
+			if (heap[parent] <= key) {
+				break;
+			}
+			heap[i] = heap[parent];
+			i = parent;
+		}
+		heap[i] = key;
+	}
+
+	/**
+	 * Removes the earliest event from the queue
+	 * @return
+	 * 	the key of the earliest event, to be read with timeOf, laneOf and typeOf
+	 */
+	public long poll() {
+		long first = heap[0];
+		long last = heap[--size];
+		int i = 0;
+		int half = size >>> 1;
+
+		while (i < half) {
+			int child = 2 * i + 1;
+			if (child + 1 < size && heap[child + 1] < heap[child]) {
+				child++;
+			}
+			if (last <= heap[child]) {
+				break;
+			}
+			heap[i] = heap[child];
+			i = child;
+		}
+		heap[i] = last;
+		return first;
+	}
+
+	/**
+	 * Checks if there are any events left in the queue
+	 * @return
+	 * 	true if the queue has no events
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes every event from the queue
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Reads the tick out of an event key
+	 * @param key
+	 * 	an event key returned by poll
+	 * @return
+	 * 	the tick the event happens at
+	 */
+	public static int timeOf(long key) {
+		return (int) (key >>> TIME_SHIFT);
+	}
+
+	/**
+	 * Reads the checkout out of an event key
+	 * @param key
+	 * 	an event key returned by poll
+	 * @return
+	 * 	the checkout the event applies to
+	 */
+	public static int laneOf(long key) {
+		return (int) (key >>> LANE_SHIFT) & (MAX_LANES - 1);
+	}
+
+	/**
+	 * Reads the event type out of an event key
+	 * @param key
+	 * 	an event key returned by poll
+	 * @return
+	 * 	the type of the event
+	 */
+	public static int typeOf(long key) {
+		return (int) key & ((1 << TYPE_BITS) - 1);
+	}
+}
@@ -0,0 +1,57 @@
+package io.github.hasanq.storesimulator;
+
+import java.util.random.RandomGenerator;
+/**
+ * This class represents the original way of drawing a basket, pricing every item on its
+ * own and adding them up. It takes one random number per item.
+ */
+class ExactBasketSampler implements BasketSampler {
+	static final ExactBasketSampler INSTANCE = new ExactBasketSampler();
+	
+	/**
+	 * Draws the total price of a basket one item at a time
+	 * @param numberOfItems
+	 * 	the number of items in the basket
+	 * @param random
+	 * 	the random stream the prices are drawn from
+	 * @return
+	 * 	the total price of the items in cents
+	 */
+	@Override
+	public int samplePriceInCents(int numberOfItems, RandomGenerator random) {
+		return sumInCents(numberOfItems, Customer.MAX_ITEM_PRICE, random);
+	}
+	
+	/**
+	 * Draws what the items of a basket cost the store one item at a time
+	 * @param numberOfItems
+	 * 	the number of items in the basket
+	 * @param random
+	 * 	the random stream the costs are drawn from
+	 * @return
+	 * 	the total cost of the items in cents
+	 */
+	@Override
+	public int sampleCostInCents(int numberOfItems, RandomGenerator random) {
+		return sumInCents(numberOfItems, Customer.MAX_ITEM_COST, random);
+	}
+	
+	/**
+	 * Helper method for adding up one uniform draw per item
+	 * @param numberOfItems
+	 * 	the number of items
+	 * @param maxValue
+	 * 	the most a single item can be worth
+	 * @param random
+	 * 	the random stream to draw from
+	 * @return
+	 * 	the total rounded to cents
+	 */
+	private static int sumInCents(int numberOfItems, double maxValue, RandomGenerator random) {
+		double total = 0;
+		for (int i = 0; i < numberOfItems; i++) {
+			total += random.nextDouble() * maxValue;
+		}
+		return (int) Math.round(total * 100);
+	}
+}
@@ -0,0 +1,439 @@
+package io.github.hasanq.storesimulator;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+/**
+ * This class runs every combination of a set of values for the number of checkouts,
+ * number of workers, arrival probability, maximum customers per minute and duration of a
+ * store. Every combination is a Scenario, and the scenarios are ordered by number of
+ * checkouts, then number of workers, then arrival probability, then maximum customers per
+ * minute, then duration, each from smallest to largest. That order is the key of a
+ * scenario, its index.
+ *
+ * The scenarios are split in half recursively on a fork-join pool so idle threads can
+ * steal work, and every scenario runs its replications on the same pool through a
+ * ReplicationRunner. Results are handed to a consumer as soon as they can be, but always
+ * in order of their key: a result that finishes early is held back until every scenario
+ * before it has been handed over. Each scenario gets its own seed drawn from the seed of
+ * the sweep, so a sweep is reproducible no matter which thread runs which scenario.
+ *
+ * Every scenario also gets a QueueingEstimate, and with setScreening the scenarios it
+ * says are too idle or too overloaded to be interesting are reported without being
+ * simulated.
+ */
+public class ParameterSweep {
+	private int[] checkouts;
+	private int[] workers;
+	private double[] arrivalProbs;
+	private int[] maxCustPerMins;
+	private int[] durations;
+	private int replications = 1;
+	private boolean screening = false;
+	private double idleLoad;
+	private double overloadedLoad;
+	private long seed = new SplittableRandom().nextLong();
+
+	/**
+	 * Constructor for a sweep of the given values. The values of each parameter are
+	 * sorted and any repeats are dropped.
+	 * @param checkouts
+	 * 	the numbers of checkouts to try
+	 * @param workers
+	 * 	the numbers of workers to try
+	 * @param arrivalProbs
+	 * 	the arrival probabilities to try
+	 * @param maxCustPerMins
+	 * 	the maximum amounts of customers per minute to try
+	 * @param durations
+	 * 	the durations to try, in minutes
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if a parameter has no values or the grid has more scenarios
+	 * 	than fit in an array
+	 */
+	public ParameterSweep(int[] checkouts, int[] workers, double[] arrivalProbs,
+	  int[] maxCustPerMins, int[] durations)
+	{
+		this.checkouts = distinct(checkouts, "checkouts");
+		this.workers = distinct(workers, "workers");
+		this.arrivalProbs = distinct(arrivalProbs);
+		this.maxCustPerMins = distinct(maxCustPerMins, "maximum customers per minute");
+		this.durations = distinct(durations, "durations");
+
+		long size = (long) this.checkouts.length * this.workers.length * this.arrivalProbs.length
+		  * this.maxCustPerMins.length * this.durations.length;
+		if (size > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException("Error: The sweep has too many scenarios.");
+		}
+	}
+
+	/**
+	 * Makes the values from one number to another, both included, a step apart
+	 * @param from
+	 * 	the first value
+	 * @param to
+	 * 	the last value
+	 * @param step
+	 * 	the gap between two values
+	 * @return
+	 * 	the values of the range
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if the step is not positive or to is less than from
+	 */
+	public static int[] range(int from, int to, int step) {
+		if (step <= 0) {
+			throw new IllegalArgumentException("Error: Range step must be positive.");
+		}
+		if (to < from) {
+			throw new IllegalArgumentException("Error: Range cannot end before it starts.");
+		}
+		int[] values = new int[(int) (((long) to - from) / step) + 1];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = from + i * step;
+		}
+		return values;
+	}
+
+	/**
+	 * Makes the values from one number to another, both included, a step apart. The
+	 * values are worked out in decimal, so a range from 0.3 to 0.9 a step of 0.3 apart
+	 * ends at 0.9 rather than at 0.8999999999999999.
+	 * @param from
+	 * 	the first value
+	 * @param to
+	 * 	the last value
+	 * @param step
+	 * 	the gap between two values
+	 * @return
+	 * 	the values of the range
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if the step is not positive or to is less than from
+	 */
+	public static double[] range(double from, double to, double step) {
+		if (!(step > 0)) {
+			throw new IllegalArgumentException("Error: Range step must be positive.");
+		}
+		if (!(to >= from)) {
+			throw new IllegalArgumentException("Error: Range cannot end before it starts.");
+		}
+		BigDecimal start = BigDecimal.valueOf(from);
+		BigDecimal gap = BigDecimal.valueOf(step);
+		int count = BigDecimal.valueOf(to).subtract(start).divideToIntegralValue(gap).intValueExact();
+		double[] values = new double[count + 1];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = start.add(gap.multiply(BigDecimal.valueOf(i))).doubleValue();
+		}
+		return values;
+	}
+
+	/**
+	 * Helper method for sorting the values of a parameter and dropping repeats
+	 * @param values
+	 * 	the values of the parameter
+	 * @param name
+	 * 	the name of the parameter for the error message
+	 * @return
+	 * 	the sorted distinct values
+	 */
+	private static int[] distinct(int[] values, String name) {
+		if (values == null || values.length == 0) {
+			throw new IllegalArgumentException("Error: The sweep needs at least one value for "
+			  + name + ".");
+		}
+		return Arrays.stream(values).sorted().distinct().toArray();
+	}
+
+	/**
+	 * Helper method for sorting the arrival probabilities and dropping repeats
+	 * @param values
+	 * 	the arrival probabilities
+	 * @return
+	 * 	the sorted distinct arrival probabilities
+	 */
+	private static double[] distinct(double[] values) {
+		if (values == null || values.length == 0) {
+			throw new IllegalArgumentException("Error: The sweep needs at least one value for "
+			  + "arrival probability.");
+		}
+		TreeSet<Double> sorted = new TreeSet<>();
+		for (double value : values) {
+			sorted.add(value);
+		}
+		return sorted.stream().mapToDouble(Double::doubleValue).toArray();
+	}
+
+	/**
+	 * Getter for the replications
+	 * @return
+	 * 	the amount of simulations run for every scenario
+	 */
+	public int getReplications() {
+		return replications;
+	}
+
+	/**
+	 * Setter for the replications
+	 * @param replications
+	 * 	the amount of simulations run for every scenario
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if replications is less than 1
+	 */
+	public void setReplications(int replications) {
+		if (replications < 1) {
+			throw new IllegalArgumentException("Error: Every scenario needs at least one replication.");
+		}
+		this.replications = replications;
+	}
+
+	/**
+	 * Setter for screening. Scenarios whose estimated load is below idleLoad or at least
+	 * overloadedLoad are not simulated, and their results only have the estimate. By
+	 * default nothing is screened out, not even scenarios with an infinite load.
+	 * @param idleLoad
+	 * 	the load below which a scenario is skipped as idle
+	 * @param overloadedLoad
+	 * 	the load from which a scenario is skipped as overloaded, 1 to skip every
+	 * 	scenario that cannot keep up with its customers
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if idleLoad is greater than overloadedLoad
+	 */
+	public void setScreening(double idleLoad, double overloadedLoad) {
+		if (!(idleLoad <= overloadedLoad)) {
+			throw new IllegalArgumentException("Error: The idle load cannot be above the overloaded load.");
+		}
+		this.screening = true;
+		this.idleLoad = idleLoad;
+		this.overloadedLoad = overloadedLoad;
+	}
+
+	/**
+	 * Getter for the random seed
+	 * @return
+	 * 	the seed the seeds of the scenarios are drawn from
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Setter for the random seed
+	 * @param seed
+	 * 	the seed the seeds of the scenarios are drawn from
+	 */
+	public void setSeed(long seed) {
+		this.seed = seed;
+	}
+
+	/**
+	 * Getter for the size of the sweep
+	 * @return
+	 * 	the amount of scenarios in the grid
+	 */
+	public int size() {
+		return checkouts.length * workers.length * arrivalProbs.length * maxCustPerMins.length
+		  * durations.length;
+	}
+
+	/**
+	 * Getter for a scenario of the grid
+	 * @param index
+	 * 	the key of the scenario
+	 * @return
+	 * 	the scenario with that key
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if the index is not in the grid
+	 */
+	public Scenario getScenario(int index) {
+		if (index < 0 || index >= size()) {
+			throw new IllegalArgumentException("Error: Scenario " + index + " is not in the sweep.");
+		}
+		int rest = index;
+		int duration = durations[rest % durations.length];
+		rest /= durations.length;
+		int maxCustPerMin = maxCustPerMins[rest % maxCustPerMins.length];
+		rest /= maxCustPerMins.length;
+		double arrivalProb = arrivalProbs[rest % arrivalProbs.length];
+		rest /= arrivalProbs.length;
+		int numWorkers = workers[rest % workers.length];
+		rest /= workers.length;
+		return new Scenario(index, checkouts[rest], arrivalProb, numWorkers, duration,
+		  maxCustPerMin);
+	}
+
+	/**
+	 * Runs the sweep on the common fork-join pool and collects the results
+	 * @return
+	 * 	the results of every scenario in order of their key
+	 */
+	public List<SweepResult> run() {
+		List<SweepResult> results = new ArrayList<>(size());
+		run(results::add, ForkJoinPool.commonPool());
+		return results;
+	}
+
+	/**
+	 * Runs the sweep on the common fork-join pool, which has a thread per core
+	 * @param consumer
+	 * 	receives the result of every scenario in order of their key
+	 */
+	public void run(Consumer<SweepResult> consumer) {
+		run(consumer, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Runs the sweep on the given fork-join pool. The consumer is called from the pool's
+	 * threads, but never by two threads at once and always in order of the key.
+	 * @param consumer
+	 * 	receives the result of every scenario in order of their key
+	 * @param pool
+	 * 	the pool the scenarios run on
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if the store simulator rejects one of the scenarios, before
+	 * 	any of them are run
+	 */
+	public void run(Consumer<SweepResult> consumer, ForkJoinPool pool) {
+		int size = size();
+		Scenario[] scenarios = new Scenario[size];
+		QueueingEstimate[] estimates = new QueueingEstimate[size];
+		long[] seeds = new long[size];
+		SplittableRandom random = new SplittableRandom(seed);
+		for (int i = 0; i < size; i++) {
+			Scenario scenario = getScenario(i);
+			StoreSimulator.validate(scenario.getNumberOfCheckouts(), scenario.getArrivalProb(),
+			  scenario.getNumWorkers(), scenario.getDuration(), scenario.getMaxCustPerMin());
+			scenarios[i] = scenario;
+			estimates[i] = QueueingEstimate.of(scenario);
+			seeds[i] = random.nextLong();
+		}
+		pool.invoke(new Scenarios(new Reorder(consumer, size), scenarios, estimates, seeds, 0,
+		  size, pool));
+	}
+
+	/**
+	 * Helper method for checking whether screening leaves a scenario out
+	 * @param estimate
+	 * 	the queueing estimate of the scenario
+	 * @return
+	 * 	whether the scenario is not simulated
+	 */
+	private boolean isScreenedOut(QueueingEstimate estimate) {
+		if (!screening) {
+			return false;
+		}
+		double load = estimate.getLoad();
+		return load < idleLoad || load >= overloadedLoad;
+	}
+
+	/**
+	 * This class holds back results that finish out of order and hands them to the
+	 * consumer once every result before them has been handed over.
+	 */
+	static class Reorder {
+		private Consumer<SweepResult> consumer;
+		private SweepResult[] pending;
+		private int next;
+
+		/**
+		 * Constructor for the reorder buffer of a sweep
+		 * @param consumer
+		 * 	receives the results in order
+		 * @param size
+		 * 	the amount of scenarios in the sweep
+		 */
+		Reorder(Consumer<SweepResult> consumer, int size) {
+			this.consumer = consumer;
+			pending = new SweepResult[size];
+		}
+
+		/**
+		 * Stores a finished result and hands over every result that is now next in order
+		 * @param result
+		 * 	the result of a scenario
+		 */
+		synchronized void complete(SweepResult result) {
+			pending[result.getScenario().getIndex()] = result;
+			while (next < pending.length && pending[next] != null) {
+				SweepResult ready = pending[next];
+				pending[next++] = null;
+				consumer.accept(ready);
+			}
+		}
+	}
+
+	/**
+	 * This class is the fork-join task for a range of scenarios, which either runs the
+	 * replications of a single scenario or splits the range in half. The first half is run
+	 * on the current thread while the second half waits to be stolen, so with few threads
+	 * the scenarios finish roughly in key order and their results can be handed over as
+	 * they finish instead of all at the end.
+	 */
+	private class Scenarios extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private Reorder reorder;
+		private Scenario[] scenarios;
+		private QueueingEstimate[] estimates;
+		private long[] seeds;
+		private int from;
+		private int to;
+		private ForkJoinPool pool;
+
+		/**
+		 * Constructor for a range of scenarios
+		 * @param reorder
+		 * 	the reorder buffer the results go to
+		 * @param scenarios
+		 * 	all of the scenarios of the sweep
+		 * @param estimates
+		 * 	the queueing estimates of all of the scenarios
+		 * @param seeds
+		 * 	the seeds of all of the scenarios
+		 * @param from
+		 * 	the first scenario in the range
+		 * @param to
+		 * 	one past the last scenario in the range
+		 * @param pool
+		 * 	the pool the replications run on
+		 */
+		Scenarios(Reorder reorder, Scenario[] scenarios, QueueingEstimate[] estimates,
+		  long[] seeds, int from, int to, ForkJoinPool pool)
+		{
+			this.reorder = reorder;
+			this.scenarios = scenarios;
+			this.estimates = estimates;
+			this.seeds = seeds;
+			this.from = from;
+			this.to = to;
+			this.pool = pool;
+		}
+
+		/**
+		 * Runs the scenarios in the range
+		 */
+		@Override
+		protected void compute() {
+			if (to - from <= 1) {
+				if (to > from) {
+					ReplicationSummary summary = null;
+					if (!isScreenedOut(estimates[from])) {
+						ReplicationRunner runner = scenarios[from].newRunner();
+						runner.setSeed(seeds[from]);
+						summary = runner.run(replications, pool);
+					}
+					reorder.complete(new SweepResult(scenarios[from], estimates[from], summary));
+				}
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			Scenarios right = new Scenarios(reorder, scenarios, estimates, seeds, middle, to, pool);
+			right.fork();
+			new Scenarios(reorder, scenarios, estimates, seeds, from, middle, pool).compute();
+			right.join();
+		}
+	}
+}
@@ -0,0 +1,385 @@
+package io.github.hasanq.storesimulator;
+
+/**
+ * This class represents an analytical estimate of how busy a store is, worked out in
+ * microseconds from the same inputs as the store simulator instead of by simulating it.
+ * The checkouts are treated as one M/G/c queue with a server per checkout, and the
+ * workers as a second M/G/c queue that customers with an issue wait in while holding
+ * their checkout. Waiting times come from the Erlang C formula for M/M/c, scaled by the
+ * Allen-Cunneen factor (Ca^2 + Cs^2) / 2 for the variability of the arrivals and of the
+ * service times.
+ *
+ * The service times are those of the simulator: the initialization, per item, fix and
+ * payment times of Customer.totalTimeSpent, rounded up to whole ticks. Their moments are
+ * worked out exactly over every number of items and whether there is an issue. A worker
+ * stays with a customer for their whole service, as in the simulator.
+ *
+ * The estimate is of the long run, so short simulations starting from an empty store
+ * wait less than it says, and customers joining the shortest line instead of one shared
+ * line wait a little more. It is meant for telling idle and overloaded scenarios apart
+ * before simulating them, not for replacing the simulation.
+ */
+public class QueueingEstimate {
+	private int numberOfCheckouts;
+	private int numWorkers;
+	private double arrivalRate;
+	private double arrivalScv;
+	private double meanService;
+	private double serviceScv;
+	private double meanTimeSpent;
+	private double utilization;
+	private double workerUtilization;
+	private double workerWait;
+	private double probabilityOfWaiting;
+	private double queueWait;
+	private double capacity;
+
+	/**
+	 * Constructor for the estimate of a store at one tick per minute
+	 * @param numberOfCheckouts
+	 * 	represents the size of the checkout array
+	 * @param arrivalProb
+	 * 	represents the probability of a customer arriving at a given minute
+	 * @param numWorkers
+	 * 	represents the number of workers for the checkout array
+	 * @param duration
+	 * 	represents the amount of minutes the simulation will run for
+	 * @param maxCustPerMin
+	 * 	represents the maximum amount of customers that can enter in a given minute
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if the store simulator would reject the scenario
+	 */
+	public QueueingEstimate(int numberOfCheckouts, double arrivalProb, int numWorkers,
+	  int duration, int maxCustPerMin)
+	{
+		this(numberOfCheckouts, arrivalProb, numWorkers, duration, maxCustPerMin, 1);
+	}
+
+	/**
+	 * Constructor for the estimate of a store
+	 * @param numberOfCheckouts
+	 * 	represents the size of the checkout array
+	 * @param arrivalProb
+	 * 	represents the probability of a customer arriving at a given minute
+	 * @param numWorkers
+	 * 	represents the number of workers for the checkout array
+	 * @param duration
+	 * 	represents the amount of minutes the simulation will run for
+	 * @param maxCustPerMin
+	 * 	represents the maximum amount of customers that can enter in a given minute
+	 * @param ticksPerMinute
+	 * 	the number of ticks every minute is split into, which service times are
+	 * 	rounded up to
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if the store simulator would reject the scenario
+	 */
+	public QueueingEstimate(int numberOfCheckouts, double arrivalProb, int numWorkers,
+	  int duration, int maxCustPerMin, int ticksPerMinute)
+	{
+		StoreSimulator.validate(numberOfCheckouts, arrivalProb, numWorkers, duration, maxCustPerMin);
+		StoreSimulator.validateTicksPerMinute(ticksPerMinute, duration);
+		ArrivalDistribution arrivals = new ArrivalDistribution(maxCustPerMin, arrivalProb);
+
+		this.numberOfCheckouts = numberOfCheckouts;
+		this.numWorkers = numWorkers;
+		arrivalRate = arrivals.getMean();
+		arrivalScv = arrivalRate > 0 ? arrivals.getVariance() / arrivalRate : 1;
+
+		double issue = Customer.ISSUE_PROBABILITY;
+		double plain = 0;
+		double plainSquares = 0;
+		double fixed = 0;
+		double fixedSquares = 0;
+		for (int items = 1; items <= Customer.MAX_ITEMS; items++) {
+			double withoutIssue = (double) StoreSimulator.serviceTicks(items, false, 0,
+			  ticksPerMinute) / ticksPerMinute;
+			double withIssue = (double) StoreSimulator.serviceTicks(items, true,
+			  StoreSimulator.FIX_TIME, ticksPerMinute) / ticksPerMinute;
+			plain += withoutIssue / Customer.MAX_ITEMS;
+			plainSquares += withoutIssue * withoutIssue / Customer.MAX_ITEMS;
+			fixed += withIssue / Customer.MAX_ITEMS;
+			fixedSquares += withIssue * withIssue / Customer.MAX_ITEMS;
+			meanTimeSpent += ((1 - issue) * timeSpent(items, false) + issue * timeSpent(items, true))
+			  / Customer.MAX_ITEMS;
+		}
+
+		double issueRate = arrivalRate * issue;
+		if (issueRate == 0) {
+			workerUtilization = 0;
+			workerWait = 0;
+		} else if (numWorkers == 0) {
+			workerUtilization = Double.POSITIVE_INFINITY;
+			workerWait = Double.POSITIVE_INFINITY;
+		} else {
+			double workerScv = fixedSquares / (fixed * fixed) - 1;
+			double workerArrivalScv = issue * arrivalScv + 1 - issue;
+			workerUtilization = issueRate * fixed / numWorkers;
+			workerWait = queueWait(numWorkers, issueRate, fixed, workerArrivalScv, workerScv);
+		}
+
+		double mean = (1 - issue) * plain + issue * fixed;
+		double squares = (1 - issue) * plainSquares + issue * fixedSquares;
+		utilization = arrivalRate * mean / numberOfCheckouts;
+		capacity = numberOfCheckouts / mean;
+		if (numWorkers == 0 && issue > 0) {
+			capacity = 0;
+		} else if (issue > 0) {
+			capacity = Math.min(capacity, numWorkers / (issue * fixed));
+		}
+
+		if (Double.isInfinite(workerWait)) {
+			meanService = Double.POSITIVE_INFINITY;
+			serviceScv = Double.POSITIVE_INFINITY;
+		} else {
+			meanService = mean + issue * workerWait;
+			double serviceSquares = squares + 2 * workerWait * issue * fixed
+			  + issue * workerWait * workerWait;
+			serviceScv = serviceSquares / (meanService * meanService) - 1;
+		}
+
+		if (arrivalRate == 0) {
+			probabilityOfWaiting = 0;
+			queueWait = 0;
+		} else if (!isStable()) {
+			probabilityOfWaiting = 1;
+			queueWait = Double.POSITIVE_INFINITY;
+		} else {
+			probabilityOfWaiting = erlangC(numberOfCheckouts, arrivalRate * meanService);
+			queueWait = queueWait(numberOfCheckouts, arrivalRate, meanService, arrivalScv, serviceScv);
+		}
+	}
+
+	/**
+	 * Makes the estimate of a scenario
+	 * @param scenario
+	 * 	the scenario
+	 * @return
+	 * 	the estimate of the scenario at one tick per minute
+	 */
+	public static QueueingEstimate of(Scenario scenario) {
+		return new QueueingEstimate(scenario.getNumberOfCheckouts(), scenario.getArrivalProb(),
+		  scenario.getNumWorkers(), scenario.getDuration(), scenario.getMaxCustPerMin());
+	}
+
+	/**
+	 * Helper method for the unrounded time a customer spends at their checkout, which the
+	 * simulator adds to the wait time of every served customer
+	 * @param items
+	 * 	the number of items of the customer
+	 * @param hasIssue
+	 * 	if the customer has a scanning issue
+	 * @return
+	 * 	the time in minutes
+	 */
+	private static double timeSpent(int items, boolean hasIssue) {
+		return Customer.totalTimeSpent(items, hasIssue, StoreSimulator.INIT_TIME,
+		  StoreSimulator.TIME_PER_ITEM, StoreSimulator.FIX_TIME, StoreSimulator.PAYMENT_TIME);
+	}
+
+	/**
+	 * Helper method for the average time spent in the queue of an M/G/c station, the
+	 * Erlang C waiting time of M/M/c scaled by the Allen-Cunneen factor
+	 * @param servers
+	 * 	the number of servers
+	 * @param arrivalRate
+	 * 	customers arriving per minute
+	 * @param meanService
+	 * 	the average service time in minutes
+	 * @param arrivalScv
+	 * 	the squared coefficient of variation of the time between arrivals
+	 * @param serviceScv
+	 * 	the squared coefficient of variation of the service time
+	 * @return
+	 * 	the average wait in minutes, or infinity if the station is overloaded
+	 */
+	private static double queueWait(int servers, double arrivalRate, double meanService,
+	  double arrivalScv, double serviceScv)
+	{
+		double load = arrivalRate * meanService;
+		if (load >= servers) {
+			return Double.POSITIVE_INFINITY;
+		}
+		return erlangC(servers, load) / (servers / meanService - arrivalRate)
+		  * (arrivalScv + serviceScv) / 2;
+	}
+
+	/**
+	 * Helper method for the Erlang C formula, the probability that a customer of an M/M/c
+	 * queue has to wait. It goes through the Erlang B recurrence, which does not overflow
+	 * however many servers there are, and stops early once the blocking probability is
+	 * too small to matter.
+	 * @param servers
+	 * 	the number of servers
+	 * @param load
+	 * 	the offered load, arrivals per minute times the average service time
+	 * @return
+	 * 	the probability of waiting
+	 */
+	static double erlangC(int servers, double load) {
+		if (load <= 0) {
+			return 0;
+		}
+		if (load >= servers) {
+			return 1;
+		}
+		double blocking = 1;
+		for (int k = 1; k <= servers; k++) {
+			blocking = load * blocking / (k + load * blocking);
+			if (k > load && blocking < 1e-300) {
+				return 0;
+			}
+		}
+		return blocking / (1 - load / servers * (1 - blocking));
+	}
+
+	/**
+	 * Checks whether the store can keep up with its customers in the long run
+	 * @return
+	 * 	whether the load is less than 1
+	 */
+	public boolean isStable() {
+		return getLoad() < 1;
+	}
+
+	/**
+	 * Getter for the load
+	 * @return
+	 * 	the fraction of the time whichever of the checkouts and the workers is busier is
+	 * 	busy, counting checkouts waiting for a worker as busy, at least 1 if the store
+	 * 	cannot keep up
+	 */
+	public double getLoad() {
+		if (arrivalRate == 0) {
+			return 0;
+		}
+		return Math.max(arrivalRate * meanService / numberOfCheckouts, workerUtilization);
+	}
+
+	/**
+	 * Getter for the arrival rate
+	 * @return
+	 * 	the average number of customers arriving per minute
+	 */
+	public double getArrivalRate() {
+		return arrivalRate;
+	}
+
+	/**
+	 * Getter for the average service time
+	 * @return
+	 * 	the average time a customer holds their checkout in minutes, including waiting
+	 * 	for a worker, or infinity if the workers cannot keep up
+	 */
+	public double getMeanServiceTime() {
+		return meanService;
+	}
+
+	/**
+	 * Getter for the utilization
+	 * @return
+	 * 	the fraction of the time an average checkout is serving somebody, not counting
+	 * 	time spent waiting for a worker
+	 */
+	public double getUtilization() {
+		return utilization;
+	}
+
+	/**
+	 * Getter for the worker utilization
+	 * @return
+	 * 	the fraction of the time an average worker is helping somebody, infinity if
+	 * 	there are issues but no workers
+	 */
+	public double getWorkerUtilization() {
+		return workerUtilization;
+	}
+
+	/**
+	 * Getter for the worker wait
+	 * @return
+	 * 	the average time a customer with an issue waits for a worker in minutes
+	 */
+	public double getWorkerWait() {
+		return workerWait;
+	}
+
+	/**
+	 * Getter for the probability of waiting
+	 * @return
+	 * 	the Erlang C probability that a customer finds every checkout busy
+	 */
+	public double getProbabilityOfWaiting() {
+		return probabilityOfWaiting;
+	}
+
+	/**
+	 * Getter for the queue wait
+	 * @return
+	 * 	the average time a customer waits on line before their service starts in
+	 * 	minutes, or infinity if the store cannot keep up
+	 */
+	public double getQueueWait() {
+		return queueWait;
+	}
+
+	/**
+	 * Getter for the queue length
+	 * @return
+	 * 	the average number of customers waiting on line across the store, by Little's law
+	 */
+	public double getQueueLength() {
+		return arrivalRate * queueWait;
+	}
+
+	/**
+	 * Getter for the time in store
+	 * @return
+	 * 	the average time from arriving to leaving in minutes
+	 */
+	public double getTimeInStore() {
+		return queueWait + meanService;
+	}
+
+	/**
+	 * Estimates the average wait time per customer the simulator reports, which adds the
+	 * time in store to the unrounded time spent at the checkout
+	 * @return
+	 * 	the estimated average wait time per customer in minutes, or infinity if the
+	 * 	store cannot keep up
+	 */
+	public double getAverageWaitTime() {
+		return arrivalRate > 0 ? meanTimeSpent + getTimeInStore() : 0;
+	}
+
+	/**
+	 * Estimates the customer serving efficiency the simulator reports, ignoring the
+	 * customers still in the store when it closes
+	 * @return
+	 * 	the estimated percentage of customers that are served
+	 */
+	public double getEfficiency() {
+		if (arrivalRate == 0) {
+			return 0;
+		}
+		return Math.min(100, 100 * capacity / arrivalRate);
+	}
+
+	/**
+	 * toString representation of the estimate
+	 * @return
+	 * 	the estimated metrics laid out like the simulation results
+	 */
+	@Override
+	public String toString() {
+		return "\nQueueing Estimate:\n"
+		  + "\tArrivals per Minute: " + String.format("%.2f", arrivalRate) + "\n"
+		  + "\tCheckout Utilization: " + String.format("%.2f", utilization * 100) + "%\n"
+		  + "\tWorker Utilization: " + String.format("%.2f", workerUtilization * 100) + "%\n"
+		  + "\tProbability of Waiting: " + String.format("%.2f", probabilityOfWaiting * 100) + "%\n"
+		  + "\tAverage Queue Length: " + String.format("%.2f", getQueueLength()) + "\n"
+		  + "\tAverage Queue Wait: " + String.format("%.2f", queueWait) + " minutes\n"
+		  + "\tCustomer Serving Efficiency: " + String.format("%.2f", getEfficiency()) + "%\n"
+		  + "\tAverage Wait Time per Customer: " + String.format("%.2f", getAverageWaitTime())
+		  + " minutes" + (isStable() ? "" : "\n\tThe store cannot keep up with its customers.");
+	}
+}
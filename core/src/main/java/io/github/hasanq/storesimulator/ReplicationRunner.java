@@ -0,0 +1,281 @@
+package io.github.hasanq.storesimulator;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+/**
+ * This class runs many independent replications of the same store scenario in parallel
+ * on a fork-join pool and merges their performance metrics into a ReplicationSummary.
+ * The replications are split in half recursively so idle threads can steal work, and
+ * every simulation runs in quiet mode so nothing is printed while they run. Each 
+ * replication gets its own seed drawn from the seed of the runner, so a run of the same
+ * replications is reproducible no matter which thread ends up running which simulation.
+ */
+public class ReplicationRunner {
+	private int numberOfCheckouts;
+	private double arrivalProb;
+	private int numWorkers;
+	private int duration;
+	private int maxCustPerMin;
+	private long seed = new SplittableRandom().nextLong();
+	private boolean antithetic;
+
+	/**
+	 * Constructor for a replication runner, takes the same scenario as the store simulator
+	 * @param numberOfCheckouts
+	 * 	represents the size of the checkout array
+	 * @param arrivalProb
+	 * 	represents the probability of a customer arriving at a given minute
+	 * @param numWorkers
+	 * 	represents the number of workers for the checkout array
+	 * @param duration
+	 * 	represents the amount of minutes each simulation will run for
+	 * @param maxCustPerMin
+	 * 	represents the maximum amount of customers that can enter in a given minute
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if the store simulator would reject the scenario
+	 */
+	public ReplicationRunner(int numberOfCheckouts, double arrivalProb,
+	  int numWorkers, int duration, int maxCustPerMin)
+	{
+		StoreSimulator.validate(numberOfCheckouts, arrivalProb, numWorkers, duration, maxCustPerMin);
+
+		this.numberOfCheckouts = numberOfCheckouts;
+		this.arrivalProb = arrivalProb;
+		this.numWorkers = numWorkers;
+		this.duration = duration;
+		this.maxCustPerMin = maxCustPerMin;
+	}
+
+	/**
+	 * Getter for the random seed
+	 * @return
+	 * 	the seed the seeds of the replications are drawn from
+	 */
+	public long getSeed() {
+		return seed;
+	}
+	
+	/**
+	 * Setter for the random seed
+	 * @param seed
+	 * 	the seed the seeds of the replications are drawn from
+	 */
+	public void setSeed(long seed) {
+		this.seed = seed;
+	}
+
+	/**
+	 * Getter for antithetic mode
+	 * @return
+	 * 	whether every replication is an antithetic pair of simulations
+	 */
+	public boolean isAntithetic() {
+		return antithetic;
+	}
+
+	/**
+	 * Setter for antithetic mode. In antithetic mode every replication runs the
+	 * simulation of its seed and the antithetic simulation of the same seed, and adds the
+	 * average of the two to the summary as one replication, so it takes twice as long but
+	 * the metrics of a replication vary less.
+	 * @param antithetic
+	 * 	whether every replication is an antithetic pair of simulations
+	 */
+	public void setAntithetic(boolean antithetic) {
+		this.antithetic = antithetic;
+	}
+
+	/**
+	 * Runs the replications on the common fork-join pool, which has a thread per core
+	 * @param replications
+	 * 	the amount of simulations to run
+	 * @return
+	 * 	the merged performance metrics of all of the simulations
+	 */
+	public ReplicationSummary run(int replications) {
+		return run(replications, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Runs the replications on the given fork-join pool
+	 * @param replications
+	 * 	the amount of simulations to run
+	 * @param pool
+	 * 	the pool the simulations run on
+	 * @return
+	 * 	the merged performance metrics of all of the simulations
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if the amount of replications is negative
+	 */
+	public ReplicationSummary run(int replications, ForkJoinPool pool) {
+		if (replications < 0) {
+			throw new IllegalArgumentException("Error: Number of replications cannot be negative.");
+		}
+		return runBatch(new SplittableRandom(seed), replications, pool);
+	}
+
+	/**
+	 * Runs replications on the common fork-join pool until the gross amount, profit,
+	 * customer serving efficiency and average wait time are all known precisely enough
+	 * @param precision
+	 * 	the largest 95% confidence interval half width allowed, as a fraction of the size
+	 * 	of the mean, so 0.01 stops once every metric is known to within 1%
+	 * @param minReplications
+	 * 	the amount of simulations to run before checking the precision for the first time
+	 * @param maxReplications
+	 * 	the most simulations to run if the precision is never reached
+	 * @return
+	 * 	the merged performance metrics of all of the simulations that were run
+	 */
+	public ReplicationSummary runUntil(double precision, int minReplications, int maxReplications) {
+		return runUntil(precision, minReplications, maxReplications, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Runs replications on the given fork-join pool until the gross amount, profit,
+	 * customer serving efficiency and average wait time are all known precisely enough.
+	 * The replications run in batches: after each batch the merged summary is checked, and
+	 * if it is not precise enough yet the next batch is as large as the current standard
+	 * deviations say is still needed. Batch sizes only depend on the results, and the
+	 * replications get the same seeds as with run, so the outcome does not depend on the
+	 * size of the pool.
+	 * @param precision
+	 * 	the largest 95% confidence interval half width allowed, as a fraction of the size
+	 * 	of the mean, so 0.01 stops once every metric is known to within 1%
+	 * @param minReplications
+	 * 	the amount of simulations to run before checking the precision for the first time
+	 * @param maxReplications
+	 * 	the most simulations to run if the precision is never reached
+	 * @param pool
+	 * 	the pool the simulations run on
+	 * @return
+	 * 	the merged performance metrics of all of the simulations that were run
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if the precision is not positive, minReplications is less
+	 * 	than 2 or maxReplications is less than minReplications
+	 */
+	public ReplicationSummary runUntil(double precision, int minReplications, int maxReplications,
+	  ForkJoinPool pool)
+	{
+		if (!(precision > 0)) {
+			throw new IllegalArgumentException("Error: Precision must be positive.");
+		}
+		if (minReplications < 2) {
+			throw new IllegalArgumentException("Error: At least 2 replications are needed for a confidence interval.");
+		}
+		if (maxReplications < minReplications) {
+			throw new IllegalArgumentException("Error: Maximum replications cannot be less than the minimum.");
+		}
+
+		SplittableRandom random = new SplittableRandom(seed);
+		ReplicationSummary summary = runBatch(random, minReplications, pool);
+		while (summary.getReplications() < maxReplications && !summary.isPrecise(precision)) {
+			long target = Math.min(summary.getRequiredReplications(precision), maxReplications);
+			summary.combine(runBatch(random, (int) (target - summary.getReplications()), pool));
+		}
+		return summary;
+	}
+
+	/**
+	 * Helper method for running a batch of replications with the next seeds of a random
+	 * stream
+	 * @param random
+	 * 	the stream the seeds of the replications are drawn from
+	 * @param replications
+	 * 	the amount of simulations to run
+	 * @param pool
+	 * 	the pool the simulations run on
+	 * @return
+	 * 	the merged performance metrics of the batch
+	 */
+	private ReplicationSummary runBatch(SplittableRandom random, int replications, ForkJoinPool pool) {
+		long[] seeds = new long[replications];
+		for (int i = 0; i < replications; i++) {
+			seeds[i] = random.nextLong();
+		}
+		return pool.invoke(new Replications(seeds, 0, replications));
+	}
+
+	/**
+	 * Runs a single replication and adds it to a summary
+	 * @param seed
+	 * 	the seed of the replication
+	 * @param summary
+	 * 	the summary the replication is added to
+	 */
+	private void replicate(long seed, ReplicationSummary summary) {
+		if (antithetic) {
+			summary.addPair(simulate(seed, false), simulate(seed, true));
+		} else {
+			summary.add(simulate(seed, false));
+		}
+	}
+
+	/**
+	 * Runs a single simulation of the scenario
+	 * @param seed
+	 * 	the seed of the simulation
+	 * @param antithetic
+	 * 	whether to run the antithetic simulation of the seed
+	 * @return
+	 * 	the performance metrics of the simulation
+	 */
+	SimulationResults simulate(long seed, boolean antithetic) {
+		StoreSimulator store = new StoreSimulator(numberOfCheckouts, arrivalProb,
+		  numWorkers, duration, maxCustPerMin, seed);
+		store.setQuiet(true);
+		if (antithetic) {
+			store.setAntithetic(true);
+		}
+		return store.run();
+	}
+
+	/**
+	 * This class is the fork-join task for a range of replications, which either runs a
+	 * single replication or splits the range in half and merges the two summaries.
+	 */
+	private class Replications extends RecursiveTask<ReplicationSummary> {
+		private static final long serialVersionUID = 1L;
+		private long[] seeds;
+		private int from;
+		private int to;
+
+		/**
+		 * Constructor for a range of replications
+		 * @param seeds
+		 * 	the seeds of all of the replications
+		 * @param from
+		 * 	the first replication in the range
+		 * @param to
+		 * 	one past the last replication in the range
+		 */
+		Replications(long[] seeds, int from, int to) {
+			this.seeds = seeds;
+			this.from = from;
+			this.to = to;
+		}
+
+		/**
+		 * Runs the replications in the range
+		 * @return
+		 * 	the merged performance metrics of the range
+		 */
+		@Override
+		protected ReplicationSummary compute() {
+			if (to - from <= 1) {
+				ReplicationSummary summary = new ReplicationSummary();
+				if (to > from) {
+					replicate(seeds[from], summary);
+				}
+				return summary;
+			}
+			int middle = (from + to) >>> 1;
+			Replications left = new Replications(seeds, from, middle);
+			left.fork();
+			ReplicationSummary summary = new Replications(seeds, middle, to).compute();
+			summary.combine(left.join());
+			return summary;
+		}
+	}
+}
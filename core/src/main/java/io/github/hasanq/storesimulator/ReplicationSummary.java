@@ -0,0 +1,257 @@
+package io.github.hasanq.storesimulator;
+
+/**
+ * This class represents the performance metrics of many replications of the same
+ * scenario, with a running summary for every metric printed by displayResults.
+ */
+public class ReplicationSummary {
+	private Statistic gross = new Statistic();
+	private Statistic workerCosts = new Statistic();
+	private Statistic itemCosts = new Statistic();
+	private Statistic overheadCosts = new Statistic();
+	private Statistic profit = new Statistic();
+	private Statistic totalItems = new Statistic();
+	private Statistic totalCustomers = new Statistic();
+	private Statistic totalCustomersServed = new Statistic();
+	private Statistic efficiency = new Statistic();
+	private Statistic aggregateWaitTime = new Statistic();
+	private Statistic averageWaitTime = new Statistic();
+
+	/**
+	 * Adds the results of one replication to the summary
+	 * @param results
+	 * 	the performance metrics of a finished simulation
+	 */
+	public void add(SimulationResults results) {
+		add(metrics(results));
+	}
+
+	/**
+	 * Adds the average of an antithetic pair of replications to the summary as one
+	 * replication
+	 * @param results
+	 * 	the performance metrics of a simulation
+	 * @param mirror
+	 * 	the performance metrics of the antithetic simulation with the same seed
+	 */
+	public void addPair(SimulationResults results, SimulationResults mirror) {
+		double[] metrics = metrics(results);
+		double[] mirrored = metrics(mirror);
+		for (int i = 0; i < metrics.length; i++) {
+			metrics[i] = (metrics[i] + mirrored[i]) / 2;
+		}
+		add(metrics);
+	}
+
+	/**
+	 * Helper method for the performance metrics of a simulation as an array, in the
+	 * order of the fields of this class
+	 * @param results
+	 * 	the performance metrics of a finished simulation
+	 * @return
+	 * 	the metrics as an array
+	 */
+	static double[] metrics(SimulationResults results) {
+		return new double[] {
+			results.getGross(), results.getWorkerCosts(), results.getItemCosts(),
+			results.getOverheadCosts(), results.getProfit(), results.getTotalItems(),
+			results.getTotalCustomers(), results.getTotalCustomersServed(),
+			results.getEfficiency(), results.getAggregateWaitTime(), results.getAverageWaitTime()
+		};
+	}
+
+	/**
+	 * Adds one replication to the summary given as an array of metrics
+	 * @param metrics
+	 * 	the metrics in the order of the fields of this class
+	 */
+	void add(double[] metrics) {
+		gross.add(metrics[0]);
+		workerCosts.add(metrics[1]);
+		itemCosts.add(metrics[2]);
+		overheadCosts.add(metrics[3]);
+		profit.add(metrics[4]);
+		totalItems.add(metrics[5]);
+		totalCustomers.add(metrics[6]);
+		totalCustomersServed.add(metrics[7]);
+		efficiency.add(metrics[8]);
+		aggregateWaitTime.add(metrics[9]);
+		averageWaitTime.add(metrics[10]);
+	}
+
+	/**
+	 * Merges another summary into this one
+	 * @param other
+	 * 	the summary of other replications of the same scenario
+	 */
+	public void combine(ReplicationSummary other) {
+		gross.combine(other.gross);
+		workerCosts.combine(other.workerCosts);
+		itemCosts.combine(other.itemCosts);
+		overheadCosts.combine(other.overheadCosts);
+		profit.combine(other.profit);
+		totalItems.combine(other.totalItems);
+		totalCustomers.combine(other.totalCustomers);
+		totalCustomersServed.combine(other.totalCustomersServed);
+		efficiency.combine(other.efficiency);
+		aggregateWaitTime.combine(other.aggregateWaitTime);
+		averageWaitTime.combine(other.averageWaitTime);
+	}
+
+	/**
+	 * Checks whether the gross amount, profit, customer serving efficiency and average
+	 * wait time are all known precisely enough
+	 * @param precision
+	 * 	the largest confidence interval half width allowed, as a fraction of the size of
+	 * 	the mean
+	 * @return
+	 * 	whether the confidence interval of every one of those metrics is narrow enough
+	 */
+	public boolean isPrecise(double precision) {
+		return gross.isPrecise(precision) && profit.isPrecise(precision)
+		  && efficiency.isPrecise(precision) && averageWaitTime.isPrecise(precision);
+	}
+
+	/**
+	 * Estimates how many replications isPrecise needs
+	 * @param precision
+	 * 	the largest confidence interval half width allowed, as a fraction of the size of
+	 * 	the mean
+	 * @return
+	 * 	the estimated amount of replications, the most any of the metrics needs
+	 */
+	public long getRequiredReplications(double precision) {
+		return Math.max(Math.max(gross.getRequiredCount(precision), profit.getRequiredCount(precision)),
+		  Math.max(efficiency.getRequiredCount(precision), averageWaitTime.getRequiredCount(precision)));
+	}
+
+	/**
+	 * Getter for the amount of replications
+	 * @return
+	 * 	how many replications have been added
+	 */
+	public long getReplications() {
+		return gross.getCount();
+	}
+
+	/**
+	 * Getter for the gross amount
+	 * @return
+	 * 	the summary of the gross amount
+	 */
+	public Statistic getGross() {
+		return gross;
+	}
+
+	/**
+	 * Getter for the worker costs
+	 * @return
+	 * 	the summary of the worker costs
+	 */
+	public Statistic getWorkerCosts() {
+		return workerCosts;
+	}
+
+	/**
+	 * Getter for the item costs
+	 * @return
+	 * 	the summary of the item costs
+	 */
+	public Statistic getItemCosts() {
+		return itemCosts;
+	}
+
+	/**
+	 * Getter for the overhead costs
+	 * @return
+	 * 	the summary of the overhead costs
+	 */
+	public Statistic getOverheadCosts() {
+		return overheadCosts;
+	}
+
+	/**
+	 * Getter for the profit
+	 * @return
+	 * 	the summary of the profit
+	 */
+	public Statistic getProfit() {
+		return profit;
+	}
+
+	/**
+	 * Getter for the total items sold
+	 * @return
+	 * 	the summary of the total items sold
+	 */
+	public Statistic getTotalItems() {
+		return totalItems;
+	}
+
+	/**
+	 * Getter for the total customers
+	 * @return
+	 * 	the summary of the total customers
+	 */
+	public Statistic getTotalCustomers() {
+		return totalCustomers;
+	}
+
+	/**
+	 * Getter for the total customers served
+	 * @return
+	 * 	the summary of the total customers served
+	 */
+	public Statistic getTotalCustomersServed() {
+		return totalCustomersServed;
+	}
+
+	/**
+	 * Getter for the customer serving efficiency
+	 * @return
+	 * 	the summary of the customer serving efficiency
+	 */
+	public Statistic getEfficiency() {
+		return efficiency;
+	}
+
+	/**
+	 * Getter for the aggregate wait time
+	 * @return
+	 * 	the summary of the aggregate wait time, in minutes
+	 */
+	public Statistic getAggregateWaitTime() {
+		return aggregateWaitTime;
+	}
+
+	/**
+	 * Getter for the average wait time
+	 * @return
+	 * 	the summary of the average wait time per customer, in minutes
+	 */
+	public Statistic getAverageWaitTime() {
+		return averageWaitTime;
+	}
+
+	/**
+	 * String representation of the summary, laid out the same way as displayResults with
+	 * the mean, 95% confidence interval and standard deviation of every metric
+	 * @return
+	 * 	a string representation of all the summarized performance metrics
+	 */
+	@Override
+	public String toString() {
+		return "\nReplication Results (" + getReplications() + " runs):\n"
+		  + "\tGross Amount: $" + gross + "\n"
+		  + "\tWorker Costs: $" + workerCosts + "\n"
+		  + "\tItem Costs: $" + itemCosts + "\n"
+		  + "\tOverhead Costs: $" + overheadCosts + "\n"
+		  + "\tTotal Profit: $" + profit + "\n"
+		  + "\tTotal Items Sold: " + totalItems + "\n"
+		  + "\tTotal Customers: " + totalCustomers + "\n"
+		  + "\tTotal Customers Served: " + totalCustomersServed + "\n"
+		  + "\tCustomer Serving Efficiency: " + efficiency + "%\n"
+		  + "\tAggregate Wait Time: " + aggregateWaitTime + " minutes\n"
+		  + "\tAverage Wait Time per Customer: " + averageWaitTime + " minutes";
+	}
+}
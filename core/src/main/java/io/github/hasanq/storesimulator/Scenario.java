@@ -0,0 +1,132 @@
+package io.github.hasanq.storesimulator;
+
+/**
+ * This class represents one store scenario: the inputs of a StoreSimulator apart from the
+ * seed. Scenarios of a parameter sweep also have an index, their place in the sweep,
+ * which is the order their results are reported in.
+ */
+public class Scenario {
+	private int index;
+	private int numberOfCheckouts;
+	private double arrivalProb;
+	private int numWorkers;
+	private int duration;
+	private int maxCustPerMin;
+
+	/**
+	 * Constructor for a scenario
+	 * @param index
+	 * 	the place of the scenario in its sweep
+	 * @param numberOfCheckouts
+	 * 	represents the size of the checkout array
+	 * @param arrivalProb
+	 * 	represents the probability of a customer arriving at a given minute
+	 * @param numWorkers
+	 * 	represents the number of workers for the checkout array
+	 * @param duration
+	 * 	represents the amount of minutes the simulation will run for
+	 * @param maxCustPerMin
+	 * 	represents the maximum amount of customers that can enter in a given minute
+	 */
+	public Scenario(int index, int numberOfCheckouts, double arrivalProb, int numWorkers,
+	  int duration, int maxCustPerMin)
+	{
+		this.index = index;
+		this.numberOfCheckouts = numberOfCheckouts;
+		this.arrivalProb = arrivalProb;
+		this.numWorkers = numWorkers;
+		this.duration = duration;
+		this.maxCustPerMin = maxCustPerMin;
+	}
+
+	/**
+	 * Makes a simulator for the scenario
+	 * @param seed
+	 * 	the seed of the simulation
+	 * @return
+	 * 	a store simulator running the scenario
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if the store simulator rejects the scenario
+	 */
+	public StoreSimulator newSimulator(long seed) {
+		return new StoreSimulator(numberOfCheckouts, arrivalProb, numWorkers, duration,
+		  maxCustPerMin, seed);
+	}
+
+	/**
+	 * Makes a replication runner for the scenario
+	 * @return
+	 * 	a replication runner running the scenario
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if the store simulator rejects the scenario
+	 */
+	public ReplicationRunner newRunner() {
+		return new ReplicationRunner(numberOfCheckouts, arrivalProb, numWorkers, duration,
+		  maxCustPerMin);
+	}
+
+	/**
+	 * Getter for the index
+	 * @return
+	 * 	the place of the scenario in its sweep
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Getter for the number of checkouts
+	 * @return
+	 * 	the size of the checkout array
+	 */
+	public int getNumberOfCheckouts() {
+		return numberOfCheckouts;
+	}
+
+	/**
+	 * Getter for the arrival probability
+	 * @return
+	 * 	the probability of each possible customer arriving
+	 */
+	public double getArrivalProb() {
+		return arrivalProb;
+	}
+
+	/**
+	 * Getter for the number of workers
+	 * @return
+	 * 	the number of workers fixing scanning issues
+	 */
+	public int getNumWorkers() {
+		return numWorkers;
+	}
+
+	/**
+	 * Getter for the duration
+	 * @return
+	 * 	the amount of minutes the simulation runs for
+	 */
+	public int getDuration() {
+		return duration;
+	}
+
+	/**
+	 * Getter for the maximum customers per minute
+	 * @return
+	 * 	the maximum amount of customers that can enter in a given minute
+	 */
+	public int getMaxCustPerMin() {
+		return maxCustPerMin;
+	}
+
+	/**
+	 * toString representation of the scenario
+	 * @return
+	 * 	the inputs of the scenario on one line
+	 */
+	@Override
+	public String toString() {
+		return String.format("checkouts=%d workers=%d arrivalProb=%s maxCustPerMin=%d duration=%d",
+		  numberOfCheckouts, numWorkers, arrivalProb, maxCustPerMin, duration);
+	}
+}
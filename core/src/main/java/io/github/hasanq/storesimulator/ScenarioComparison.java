@@ -0,0 +1,199 @@
+package io.github.hasanq.storesimulator;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+/**
+ * This class compares two store scenarios, for example 6 checkouts against 7, using
+ * common random numbers. Every replication runs both scenarios with the same seed, so
+ * they see the same customers arriving at the same minutes with the same baskets and
+ * issues, and the difference between them is mostly the difference between the
+ * scenarios rather than noise. In antithetic mode every replication also runs both
+ * scenarios on the antithetic streams of the seed and averages the pair.
+ *
+ * The replications run in parallel on a fork-join pool the same way ReplicationRunner
+ * runs them, and get the same seeds as a ReplicationRunner with the same seed.
+ */
+public class ScenarioComparison {
+	private ReplicationRunner baseline;
+	private ReplicationRunner alternative;
+	private Scenario baselineScenario;
+	private Scenario alternativeScenario;
+	private long seed = new SplittableRandom().nextLong();
+	private boolean antithetic;
+
+	/**
+	 * Constructor for a comparison of two scenarios
+	 * @param baseline
+	 * 	the scenario being compared against
+	 * @param alternative
+	 * 	the scenario being compared
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if the store simulator rejects either scenario
+	 */
+	public ScenarioComparison(Scenario baseline, Scenario alternative) {
+		this.baseline = baseline.newRunner();
+		this.alternative = alternative.newRunner();
+		baselineScenario = baseline;
+		alternativeScenario = alternative;
+	}
+
+	/**
+	 * Getter for the baseline
+	 * @return
+	 * 	the scenario being compared against
+	 */
+	public Scenario getBaseline() {
+		return baselineScenario;
+	}
+
+	/**
+	 * Getter for the alternative
+	 * @return
+	 * 	the scenario being compared
+	 */
+	public Scenario getAlternative() {
+		return alternativeScenario;
+	}
+
+	/**
+	 * Getter for the random seed
+	 * @return
+	 * 	the seed the seeds of the replications are drawn from
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Setter for the random seed
+	 * @param seed
+	 * 	the seed the seeds of the replications are drawn from
+	 */
+	public void setSeed(long seed) {
+		this.seed = seed;
+	}
+
+	/**
+	 * Getter for antithetic mode
+	 * @return
+	 * 	whether every replication is an antithetic pair of simulations of each scenario
+	 */
+	public boolean isAntithetic() {
+		return antithetic;
+	}
+
+	/**
+	 * Setter for antithetic mode
+	 * @param antithetic
+	 * 	whether every replication is an antithetic pair of simulations of each scenario
+	 */
+	public void setAntithetic(boolean antithetic) {
+		this.antithetic = antithetic;
+	}
+
+	/**
+	 * Runs the replications on the common fork-join pool, which has a thread per core
+	 * @param replications
+	 * 	the amount of replications to run of each scenario
+	 * @return
+	 * 	the summaries of both scenarios and of the difference between them
+	 */
+	public ComparisonSummary run(int replications) {
+		return run(replications, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Runs the replications on the given fork-join pool
+	 * @param replications
+	 * 	the amount of replications to run of each scenario
+	 * @param pool
+	 * 	the pool the simulations run on
+	 * @return
+	 * 	the summaries of both scenarios and of the difference between them
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if the amount of replications is negative
+	 */
+	public ComparisonSummary run(int replications, ForkJoinPool pool) {
+		if (replications < 0) {
+			throw new IllegalArgumentException("Error: Number of replications cannot be negative.");
+		}
+		long[] seeds = new long[replications];
+		SplittableRandom random = new SplittableRandom(seed);
+		for (int i = 0; i < replications; i++) {
+			seeds[i] = random.nextLong();
+		}
+		return pool.invoke(new Replications(seeds, 0, replications));
+	}
+
+	/**
+	 * Runs a single replication of both scenarios with the same seed and adds it to a
+	 * summary
+	 * @param seed
+	 * 	the seed of the replication
+	 * @param summary
+	 * 	the summary the replication is added to
+	 */
+	private void replicate(long seed, ComparisonSummary summary) {
+		double[] baselineMetrics = ReplicationSummary.metrics(baseline.simulate(seed, false));
+		double[] alternativeMetrics = ReplicationSummary.metrics(alternative.simulate(seed, false));
+		if (antithetic) {
+			double[] baselineMirror = ReplicationSummary.metrics(baseline.simulate(seed, true));
+			double[] alternativeMirror = ReplicationSummary.metrics(alternative.simulate(seed, true));
+			for (int i = 0; i < baselineMetrics.length; i++) {
+				baselineMetrics[i] = (baselineMetrics[i] + baselineMirror[i]) / 2;
+				alternativeMetrics[i] = (alternativeMetrics[i] + alternativeMirror[i]) / 2;
+			}
+		}
+		summary.add(baselineMetrics, alternativeMetrics);
+	}
+
+	/**
+	 * This class is the fork-join task for a range of replications, which either runs a
+	 * single replication of both scenarios or splits the range in half and merges the two
+	 * comparisons.
+	 */
+	private class Replications extends RecursiveTask<ComparisonSummary> {
+		private static final long serialVersionUID = 1L;
+		private long[] seeds;
+		private int from;
+		private int to;
+
+		/**
+		 * Constructor for a range of replications
+		 * @param seeds
+		 * 	the seeds of all of the replications
+		 * @param from
+		 * 	the first replication in the range
+		 * @param to
+		 * 	one past the last replication in the range
+		 */
+		Replications(long[] seeds, int from, int to) {
+			this.seeds = seeds;
+			this.from = from;
+			this.to = to;
+		}
+
+		/**
+		 * Runs the replications in the range
+		 * @return
+		 * 	the merged comparison of the range
+		 */
+		@Override
+		protected ComparisonSummary compute() {
+			if (to - from <= 1) {
+				ComparisonSummary summary = new ComparisonSummary();
+				if (to > from) {
+					replicate(seeds[from], summary);
+				}
+				return summary;
+			}
+			int middle = (from + to) >>> 1;
+			Replications left = new Replications(seeds, from, middle);
+			left.fork();
+			ComparisonSummary summary = new Replications(seeds, middle, to).compute();
+			summary.combine(left.join());
+			return summary;
+		}
+	}
+}
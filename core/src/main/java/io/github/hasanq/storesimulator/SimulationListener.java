@@ -0,0 +1,96 @@
+package io.github.hasanq.storesimulator;
+
+/**
+ * This interface represents something that watches a simulation as it runs, such as the
+ * console log or a trace file. Every callback gets plain numbers rather than objects, so 
+ * reporting an event allocates nothing, and every callback does nothing unless it is 
+ * overridden. Times are given in ticks, see StoreSimulator.setTicksPerMinute.
+ */
+public interface SimulationListener {
+	
+	/**
+	 * Called once before the simulation starts
+	 * @param numberOfCheckouts
+	 * 	the amount of checkouts in the store
+	 * @param ticksPerMinute
+	 * 	the number of ticks every minute is split into
+	 * @param duration
+	 * 	the amount of minutes the simulation runs for
+	 */
+	default void onStart(int numberOfCheckouts, int ticksPerMinute, int duration) {}
+	
+	/**
+	 * Called when the simulation reaches a new minute that something happens in
+	 * @param minute
+	 * 	the minute, starting at 1
+	 */
+	default void onMinute(int minute) {}
+	
+	/**
+	 * Called when a customer joins the line of a checkout
+	 * @param tick
+	 * 	the tick the customer arrived at
+	 * @param customer
+	 * 	the customer number
+	 * @param numberOfItems
+	 * 	the number of items the customer has
+	 * @param checkout
+	 * 	the index of the checkout the customer joined
+	 */
+	default void onArrival(int tick, long customer, int numberOfItems, int checkout) {}
+	
+	/**
+	 * Called when a customer starts using a checkout, after they have been given a worker
+	 * if they have an issue
+	 * @param tick
+	 * 	the tick the customer started at
+	 * @param customer
+	 * 	the customer number
+	 * @param checkout
+	 * 	the index of the checkout
+	 * @param serviceTicks
+	 * 	the number of ticks the customer will spend at the checkout
+	 */
+	default void onServiceStart(int tick, long customer, int checkout, long serviceTicks) {}
+	
+	/**
+	 * Called when a customer with an issue reaches a checkout and no worker is free, so
+	 * the checkout has to wait for one
+	 * @param tick
+	 * 	the tick the customer reached the checkout at
+	 * @param customer
+	 * 	the customer number
+	 * @param checkout
+	 * 	the index of the checkout
+	 */
+	default void onIssue(int tick, long customer, int checkout) {}
+	
+	/**
+	 * Called when a worker is assigned to fix the issue of a customer
+	 * @param tick
+	 * 	the tick the worker was assigned at
+	 * @param customer
+	 * 	the customer number
+	 * @param checkout
+	 * 	the index of the checkout
+	 */
+	default void onWorkerAssigned(int tick, long customer, int checkout) {}
+	
+	/**
+	 * Called when a customer finishes at a checkout and leaves the store
+	 * @param tick
+	 * 	the tick the customer left at
+	 * @param customer
+	 * 	the customer number
+	 * @param checkout
+	 * 	the index of the checkout
+	 */
+	default void onDeparture(int tick, long customer, int checkout) {}
+	
+	/**
+	 * Called once after the simulation is done
+	 * @param tick
+	 * 	the first tick after the end of the simulation
+	 */
+	default void onFinish(int tick) {}
+}
@@ -0,0 +1,184 @@
+package io.github.hasanq.storesimulator;
+
+/**
+ * This class represents the performance metrics of one finished simulation, the same
+ * numbers that are printed by StoreSimulator.displayResults, so that they can be used
+ * by code running many simulations instead of only being read off the console.
+ */
+public class SimulationResults {
+	private double gross;
+	private double workerCosts;
+	private double itemCosts;
+	private double overheadCosts;
+	private double profit;
+	private long totalItems;
+	private long totalCustomers;
+	private long totalCustomersServed;
+	private double efficiency;
+	private double aggregateWaitTime;
+	private double averageWaitTime;
+
+	/**
+	 * Constructor for the results of a simulation
+	 * @param gross
+	 * 	the gross amount made from served customers
+	 * @param workerCosts
+	 * 	the wages paid to workers over the simulation
+	 * @param itemCosts
+	 * 	the cost of the items that were sold
+	 * @param overheadCosts
+	 * 	the overhead cost as a percentage of the gross amount
+	 * @param profit
+	 * 	the gross amount minus all of the costs
+	 * @param totalItems
+	 * 	the amount of items sold
+	 * @param totalCustomers
+	 * 	the amount of customers that arrived
+	 * @param totalCustomersServed
+	 * 	the amount of customers that finished checking out
+	 * @param efficiency
+	 * 	the percentage of customers that were served
+	 * @param aggregateWaitTime
+	 * 	the time spent by all customers both waiting on line and scanning, in minutes
+	 * @param averageWaitTime
+	 * 	the aggregate wait time per customer, in minutes
+	 */
+	public SimulationResults(double gross, double workerCosts, double itemCosts,
+	  double overheadCosts, double profit, long totalItems, long totalCustomers,
+	  long totalCustomersServed, double efficiency, double aggregateWaitTime,
+	  double averageWaitTime)
+	{
+		this.gross = gross;
+		this.workerCosts = workerCosts;
+		this.itemCosts = itemCosts;
+		this.overheadCosts = overheadCosts;
+		this.profit = profit;
+		this.totalItems = totalItems;
+		this.totalCustomers = totalCustomers;
+		this.totalCustomersServed = totalCustomersServed;
+		this.efficiency = efficiency;
+		this.aggregateWaitTime = aggregateWaitTime;
+		this.averageWaitTime = averageWaitTime;
+	}
+
+	/**
+	 * Getter for the gross amount
+	 * @return
+	 * 	the gross amount made from served customers
+	 */
+	public double getGross() {
+		return gross;
+	}
+
+	/**
+	 * Getter for the worker costs
+	 * @return
+	 * 	the wages paid to workers over the simulation
+	 */
+	public double getWorkerCosts() {
+		return workerCosts;
+	}
+
+	/**
+	 * Getter for the item costs
+	 * @return
+	 * 	the cost of the items that were sold
+	 */
+	public double getItemCosts() {
+		return itemCosts;
+	}
+
+	/**
+	 * Getter for the overhead costs
+	 * @return
+	 * 	the overhead cost as a percentage of the gross amount
+	 */
+	public double getOverheadCosts() {
+		return overheadCosts;
+	}
+
+	/**
+	 * Getter for the profit
+	 * @return
+	 * 	the gross amount minus all of the costs
+	 */
+	public double getProfit() {
+		return profit;
+	}
+
+	/**
+	 * Getter for the total items sold
+	 * @return
+	 * 	the amount of items sold
+	 */
+	public long getTotalItems() {
+		return totalItems;
+	}
+
+	/**
+	 * Getter for the total customers
+	 * @return
+	 * 	the amount of customers that arrived
+	 */
+	public long getTotalCustomers() {
+		return totalCustomers;
+	}
+
+	/**
+	 * Getter for the total customers served
+	 * @return
+	 * 	the amount of customers that finished checking out
+	 */
+	public long getTotalCustomersServed() {
+		return totalCustomersServed;
+	}
+
+	/**
+	 * Getter for the customer serving efficiency
+	 * @return
+	 * 	the percentage of customers that were served
+	 */
+	public double getEfficiency() {
+		return efficiency;
+	}
+
+	/**
+	 * Getter for the aggregate wait time
+	 * @return
+	 * 	the time spent by all customers both waiting on line and scanning, in minutes
+	 */
+	public double getAggregateWaitTime() {
+		return aggregateWaitTime;
+	}
+
+	/**
+	 * Getter for the average wait time
+	 * @return
+	 * 	the aggregate wait time per customer, in minutes
+	 */
+	public double getAverageWaitTime() {
+		return averageWaitTime;
+	}
+
+	/**
+	 * String representation of the results, laid out the same way as displayResults
+	 * @return
+	 * 	a string representation of all the performance metrics
+	 */
+	@Override
+	public String toString() {
+		return "\nSimulation Results:\n"
+		  + "\tGross Amount: $" + String.format("%.2f", gross) + "\n"
+		  + "\tWorker Costs: $" + String.format("%.2f", workerCosts) + "\n"
+		  + "\tItem Costs: $" + String.format("%.2f", itemCosts) + "\n"
+		  + "\tOverhead Costs: $" + String.format("%.2f", overheadCosts) + "\n"
+		  + "\tTotal Profit: $" + String.format("%.2f", profit) + "\n"
+		  + "\tTotal Items Sold: " + totalItems + "\n"
+		  + "\tTotal Customers: " + totalCustomers + "\n"
+		  + "\tTotal Customers Served: " + totalCustomersServed + "\n"
+		  + "\tCustomer Serving Efficiency: " + String.format("%.2f", efficiency) + "%\n"
+		  + "\tAggregate Wait Time: " + String.format("%.2f", aggregateWaitTime / 60) + " hours\n"
+		  + "\tAverage Wait Time per Customer: "
+		  + String.format("%.2f", averageWaitTime) + " minutes";
+	}
+}
@@ -0,0 +1,159 @@
+package io.github.hasanq.storesimulator;
+
+/**
+ * This class represents a running summary of one performance metric over many simulations.
+ * Values are added one at a time using Welford's method, so the mean and variance are
+ * kept up to date without storing the values, and two summaries built on different
+ * threads can be merged into one.
+ */
+public class Statistic {
+	private static final double Z_95 = 1.959963984540054;
+	private static final double[] T_95 = {
+		12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+		2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+		2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+	};
+
+	private long count;
+	private double mean;
+	private double sumOfSquares;
+
+	/**
+	 * Adds a value to the summary
+	 * @param value
+	 * 	the value of the metric in one simulation
+	 */
+	public void add(double value) {
+		count++;
+		double delta = value - mean;
+		mean += delta / count;
+		sumOfSquares += delta * (value - mean);
+	}
+
+	/**
+	 * Merges another summary into this one, as if all of its values were added here
+	 * @param other
+	 * 	the summary being merged in
+	 */
+	public void combine(Statistic other) {
+		if (other.count == 0) {
+			return;
+		}
+		long total = count + other.count;
+		double delta = other.mean - mean;
+		mean += delta * other.count / total;
+		sumOfSquares += other.sumOfSquares + delta * delta * ((double) count * other.count / total);
+		count = total;
+	}
+
+	/**
+	 * Getter for the amount of values
+	 * @return
+	 * 	how many values have been added
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Getter for the mean
+	 * @return
+	 * 	the mean of the values, 0 if there are none
+	 */
+	public double getMean() {
+		return mean;
+	}
+
+	/**
+	 * Getter for the sample variance
+	 * @return
+	 * 	the sample variance of the values, 0 if there are fewer than two
+	 */
+	public double getVariance() {
+		return count > 1 ? sumOfSquares / (count - 1) : 0;
+	}
+
+	/**
+	 * Getter for the sample standard deviation
+	 * @return
+	 * 	the sample standard deviation of the values
+	 */
+	public double getStandardDeviation() {
+		return Math.sqrt(getVariance());
+	}
+
+	/**
+	 * Half the width of the 95% confidence interval of the mean, using Student's t
+	 * distribution so the interval is not too narrow when there are only a few values
+	 * @return
+	 * 	the distance from the mean to either end of the confidence interval
+	 */
+	public double getHalfWidth() {
+		return count > 1 ? criticalValue(count - 1) * getStandardDeviation() / Math.sqrt(count) : 0;
+	}
+
+	/**
+	 * Checks whether the confidence interval of the mean is narrow enough
+	 * @param precision
+	 * 	the largest half width allowed, as a fraction of the size of the mean
+	 * @return
+	 * 	whether there are at least two values and the half width is at most precision
+	 * 	times the size of the mean
+	 */
+	public boolean isPrecise(double precision) {
+		return count > 1 && getHalfWidth() <= precision * Math.abs(mean);
+	}
+
+	/**
+	 * Estimates how many values the confidence interval needs to be narrow enough,
+	 * assuming the mean and standard deviation stay where they are
+	 * @param precision
+	 * 	the largest half width allowed, as a fraction of the size of the mean
+	 * @return
+	 * 	the estimated amount of values, at least the amount there already are, or
+	 * 	Long.MAX_VALUE if the mean is 0 while the values still vary
+	 */
+	public long getRequiredCount(double precision) {
+		if (isPrecise(precision)) {
+			return count;
+		}
+		double target = precision * Math.abs(mean);
+		if (count < 2) {
+			return 2;
+		}
+		if (target == 0) {
+			return Long.MAX_VALUE;
+		}
+		double required = Math.ceil(Math.pow(Z_95 * getStandardDeviation() / target, 2));
+		return Math.max(count + 1, required >= Long.MAX_VALUE ? Long.MAX_VALUE : (long) required);
+	}
+
+	/**
+	 * Helper method for the critical value of Student's t distribution for a 95%
+	 * confidence interval. Up to 30 degrees of freedom it comes from a table, and above
+	 * that from the first terms of its expansion around the normal critical value.
+	 * @param degreesOfFreedom
+	 * 	the amount of values minus one
+	 * @return
+	 * 	the critical value
+	 */
+	private static double criticalValue(long degreesOfFreedom) {
+		if (degreesOfFreedom <= T_95.length) {
+			return T_95[(int) degreesOfFreedom - 1];
+		}
+		double z = Z_95;
+		double df = degreesOfFreedom;
+		return z + (z * z * z + z) / (4 * df)
+		  + (5 * Math.pow(z, 5) + 16 * z * z * z + 3 * z) / (96 * df * df);
+	}
+
+	/**
+	 * String representation of the summary
+	 * @return
+	 * 	the mean with its confidence interval and standard deviation
+	 */
+	@Override
+	public String toString() {
+		return String.format("%.2f +/- %.2f (sd %.2f)", mean, getHalfWidth(), getStandardDeviation());
+	}
+}
@@ -0,0 +1,984 @@
+package io.github.hasanq.storesimulator;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+/**
+ * This class represents the actual simulator for the store itself, including an array of
+ * checkout queues, the main simulator including all of its helper methods, variables that
+ * calculate and display performance metrics, and constants that represent the time that 
+ * common customer actions take as well as worker wages and overhead costs.
+ */
+public class StoreSimulator {
+	private Checkout[] checkouts;
+	private CustomerTable customers;
+	private CheckoutHeap leastBusyCheckouts;
+	private long[] occupiedLanes;
+	private long seed;
+	private boolean antithetic;
+	private RandomGenerator arrivalRandom;
+	private RandomGenerator basketRandom;
+	private RandomGenerator issueRandom;
+	private RandomGenerator itemCostRandom;
+	private BasketSampler basketSampler = BasketSampler.table();
+	
+	private double arrivalProb; 
+	private double gross;
+	private long grossCents;
+	private double profit;
+	private long totalCustomers;
+	private long totalCustomersServed;
+	private double totalWaitTime;
+	private long customerTicksOnLine;
+	private double averageWaitTime;
+	private long totalItems;
+	private int numWorkers;
+	private WorkerPool workers;
+	private int totalNumWorkers;
+	private int duration;
+	private int maxCustPerMin;
+	private ArrivalDistribution arrivals;
+	private int[] arrivalsPerMinute;
+	private long itemCostCents;
+	private Mode mode = Mode.DISCRETE_EVENT;
+	private boolean quiet;
+	private ConsoleListener console = new ConsoleListener(this);
+	private SimulationListener[] listeners = {console};
+	private int ticksPerMinute = 1;
+	
+	private EventQueue events;
+	private int clock;
+	private long queuedCustomers;
+	private long lastAssignedNumber;
+	private boolean hasRun;
+	
+	private static final int DEPARTURE = 0;
+	private static final int ISSUE_RESOLVED = 1;
+	private static final int ARRIVAL = 2;
+	private static final int SERVICE_START = 3;
+	private static final int ISSUE_START = 4;
+	
+	private static final int PHASE_COMPLETIONS = 0;
+	private static final int PHASE_ARRIVALS = 1;
+	private static final int PHASE_CHECKOUTS = 2;
+	
+	static final double INIT_TIME = 0.5;
+	static final double TIME_PER_ITEM = 0.1;
+	static final double FIX_TIME = 2;
+	static final double PAYMENT_TIME = 1;
+	static final int TENTHS_PER_MINUTE = 10;
+	private static final long WAITING_FOR_WORKER = Long.MAX_VALUE;
+	private static final long WORKER_ASSIGNED = Long.MIN_VALUE;
+	private static final double WORKER_WAGE = 16.5;
+	private static final double OVERHEAD_COST_PERCENTAGE = 0.3;
+	
+	/**
+	 * The ways a simulation can be run. DISCRETE_EVENT jumps the clock straight from one
+	 * event to the next, MINUTE_STEPPED visits every checkout every tick and is kept so
+	 * that the two can be cross-checked against each other. At the default resolution of
+	 * one tick per minute it visits every checkout every minute.
+	 */
+	public enum Mode {
+		DISCRETE_EVENT,
+		MINUTE_STEPPED
+	}
+	
+	public StoreSimulator() {}
+	
+	/**
+	 * Constructor for the store simulator object
+	 * @param numberOfCheckouts
+	 * 	represents the size of the checkout array
+	 * @param arrivalProb
+	 * 	represents the probability of a customer arriving at a given minute
+	 * @param numWorkers
+	 * 	represents the number of workers for the checkout array
+	 * @param duration
+	 * 	represents the amount of minutes the simulation will run for
+	 * @param maxCustPerMin
+	 * 	represents the maximum amount of customers that can enter in a given minute
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if any of the above variables is outside of the proper
+	 *	range in order to ensure the simulator runs properly
+	 */
+	public StoreSimulator(int numberOfCheckouts, double arrivalProb, 
+	  int numWorkers, int duration, int maxCustPerMin) 
+	{
+		this(numberOfCheckouts, arrivalProb, numWorkers, duration, maxCustPerMin, 
+		  new SplittableRandom().nextLong());
+	}
+	
+	/**
+	 * Constructor for a store simulator object with a fixed random seed. The seed is split
+	 * into independent random streams for arrivals, baskets, issues and item costs, so two
+	 * simulators with the same seed and scenario always give the same results and no
+	 * random state is shared between simulators.
+	 * @param numberOfCheckouts
+	 * 	represents the size of the checkout array
+	 * @param arrivalProb
+	 * 	represents the probability of a customer arriving at a given minute
+	 * @param numWorkers
+	 * 	represents the number of workers for the checkout array
+	 * @param duration
+	 * 	represents the amount of minutes the simulation will run for
+	 * @param maxCustPerMin
+	 * 	represents the maximum amount of customers that can enter in a given minute
+	 * @param seed
+	 * 	the seed all of the random streams of the simulation are split from
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if any of the above variables is outside of the proper
+	 *	range in order to ensure the simulator runs properly
+	 */
+	public StoreSimulator(int numberOfCheckouts, double arrivalProb, 
+	  int numWorkers, int duration, int maxCustPerMin, long seed) 
+	{
+		validate(numberOfCheckouts, arrivalProb, numWorkers, duration, maxCustPerMin);
+		
+		checkouts = new Checkout[numberOfCheckouts];
+		this.arrivalProb = arrivalProb;
+		this.numWorkers = numWorkers;
+		this.duration = duration;
+		this.maxCustPerMin = maxCustPerMin;
+		this.seed = seed;
+		arrivals = new ArrivalDistribution(maxCustPerMin, arrivalProb);
+		
+		splitRandomStreams();
+		buildLanes();
+	}
+	
+	/**
+	 * Helper method for building empty checkouts, an empty customer table and a pool of
+	 * free workers for a run
+	 */
+	private void buildLanes() {
+		customers = new CustomerTable();
+		workers = new WorkerPool(numWorkers, checkouts.length);
+		leastBusyCheckouts = new CheckoutHeap(checkouts.length);
+		occupiedLanes = new long[(checkouts.length + 63) / 64];
+		for (int i = 0; i < checkouts.length; i++) {
+			checkouts[i] = new Checkout(customers);
+			checkouts[i].attach(leastBusyCheckouts, i);
+		}
+	}
+	
+	/**
+	 * Helper method for checking a scenario the same way the constructor does, without
+	 * building the simulator
+	 * @param numberOfCheckouts
+	 * 	represents the size of the checkout array
+	 * @param arrivalProb
+	 * 	represents the probability of a customer arriving at a given minute
+	 * @param numWorkers
+	 * 	represents the number of workers for the checkout array
+	 * @param duration
+	 * 	represents the amount of minutes the simulation will run for
+	 * @param maxCustPerMin
+	 * 	represents the maximum amount of customers that can enter in a given minute
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if any of the above variables is outside of the proper
+	 *	range in order to ensure the simulator runs properly
+	 */
+	static void validate(int numberOfCheckouts, double arrivalProb, int numWorkers,
+	  int duration, int maxCustPerMin)
+	{
+		if (numberOfCheckouts <= 0) {
+			throw new IllegalArgumentException("Error: Number of checkouts must be at least 1.");
+		}
+		
+		if (arrivalProb <= 0 || arrivalProb > 1) {
+			throw new IllegalArgumentException("Error: Arrival probability must be between 0 and 1.");
+		}
+		
+		if (numWorkers < 0) {
+			throw new IllegalArgumentException("Error: Number of workers cannot be negative.");
+		}
+		
+		if (duration < 0) {
+			throw new IllegalArgumentException("Error: Duration must be positive.");
+		}
+		
+		if (maxCustPerMin < 0) {
+			throw new IllegalArgumentException("Error: Maximum customers per minute cannot be negative.");
+		}
+		
+		if (numberOfCheckouts > EventQueue.MAX_LANES) {
+			throw new IllegalArgumentException("Error: Number of checkouts must be at most " 
+			  + EventQueue.MAX_LANES + ".");
+		}
+	}
+	
+	/**
+	 * Getter for the random seed
+	 * @return
+	 * 	the seed all of the random streams of the simulation are split from
+	 */
+	public long getSeed() {
+		return seed;
+	}
+	
+	/**
+	 * Helper method for splitting the seed into the random streams of the simulation,
+	 * mirroring each of them if the simulation is antithetic. Arrivals, baskets, issues
+	 * and item costs each have a stream of their own, and everything about a customer is
+	 * drawn when they arrive, so two simulations with the same seed draw the same
+	 * customers in the same order even if their checkouts and workers differ.
+	 */
+	private void splitRandomStreams() {
+		SplittableRandom random = new SplittableRandom(seed);
+		arrivalRandom = mirror(random.split());
+		basketRandom = mirror(random.split());
+		issueRandom = mirror(random.split());
+		itemCostRandom = mirror(random.split());
+	}
+	
+	/**
+	 * Helper method for mirroring a random stream if the simulation is antithetic
+	 * @param random
+	 * 	the stream
+	 * @return
+	 * 	the stream, or its antithetic mirror
+	 */
+	private RandomGenerator mirror(SplittableRandom random) {
+		return antithetic ? new AntitheticRandom(random) : random;
+	}
+	
+	/**
+	 * Getter for antithetic mode
+	 * @return
+	 * 	whether every random number drawn is the mirror of the one the seed would give
+	 */
+	public boolean isAntithetic() {
+		return antithetic;
+	}
+	
+	/**
+	 * Setter for antithetic mode. An antithetic simulation draws 1 - u wherever the
+	 * simulation with the same seed draws u, so the two are negatively correlated and
+	 * their average is a better estimate than the average of two independent runs. The
+	 * random streams start over from the seed.
+	 * @param antithetic
+	 * 	whether to mirror every random number drawn
+	 */
+	public void setAntithetic(boolean antithetic) {
+		this.antithetic = antithetic;
+		splitRandomStreams();
+	}
+	
+	/**
+	 * Getter for the simulation mode
+	 * @return
+	 * 	the way the simulation will be run
+	 */
+	public Mode getMode() {
+		return mode;
+	}
+	
+	/**
+	 * Setter for the simulation mode
+	 * @param mode
+	 * 	the way the simulation will be run
+	 */
+	public void setMode(Mode mode) {
+		this.mode = mode;
+	}
+	
+	/**
+	 * Getter for the basket sampler
+	 * @return
+	 * 	the way the prices and costs of baskets are drawn
+	 */
+	public BasketSampler getBasketSampler() {
+		return basketSampler;
+	}
+	
+	/**
+	 * Setter for the basket sampler. BasketSampler.table() draws every basket with a
+	 * single random number and is the default, BasketSampler.exact() draws every item on
+	 * its own.
+	 * @param basketSampler
+	 * 	the way the prices and costs of baskets are drawn
+	 */
+	public void setBasketSampler(BasketSampler basketSampler) {
+		this.basketSampler = basketSampler;
+	}
+	
+	/**
+	 * Getter for the time resolution
+	 * @return
+	 * 	the number of ticks every minute is split into
+	 */
+	public int getTicksPerMinute() {
+		return ticksPerMinute;
+	}
+	
+	/**
+	 * Setter for the time resolution. Time is kept as a whole number of ticks and the 
+	 * time a customer spends at a checkout is rounded up to the next tick, so with one tick
+	 * per minute customers finish on the minute and with 10 or 60 ticks per minute they 
+	 * finish at the exact tenth of a minute their service ends at. Customers still arrive
+	 * at the start of a minute.
+	 * @param ticksPerMinute
+	 * 	the number of ticks every minute is split into
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if ticksPerMinute is less than 1 or the simulation would 
+	 * 	last too many ticks to count
+	 */
+	public void setTicksPerMinute(int ticksPerMinute) {
+		validateTicksPerMinute(ticksPerMinute, duration);
+		this.ticksPerMinute = ticksPerMinute;
+	}
+	
+	/**
+	 * Helper method for checking a time resolution the same way setTicksPerMinute does
+	 * @param ticksPerMinute
+	 * 	the number of ticks every minute is split into
+	 * @param duration
+	 * 	the amount of minutes the simulation runs for
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if ticksPerMinute is less than 1 or the simulation would 
+	 * 	last too many ticks to count
+	 */
+	static void validateTicksPerMinute(int ticksPerMinute, int duration) {
+		if (ticksPerMinute < 1) {
+			throw new IllegalArgumentException("Error: There must be at least one tick per minute.");
+		}
+		if ((duration + 1L) * ticksPerMinute - 1 > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Error: Duration is too long for " 
+			  + ticksPerMinute + " ticks per minute.");
+		}
+	}
+	
+	/**
+	 * Checks if the simulation runs without printing a log of every event
+	 * @return
+	 * 	true if only the results are printed
+	 */
+	public boolean isQuiet() {
+		return quiet;
+	}
+	
+	/**
+	 * Setter for quiet mode. A quiet simulation does no formatting and prints nothing 
+	 * while it runs, only the results once it is done. The log is printed by a 
+	 * ConsoleListener, which quiet mode removes.
+	 * @param quiet
+	 * 	true to only print the results
+	 */
+	public void setQuiet(boolean quiet) {
+		if (quiet && !this.quiet) {
+			removeListener(console);
+		} else if (!quiet && this.quiet) {
+			addListener(console);
+		}
+		this.quiet = quiet;
+	}
+	
+	/**
+	 * Adds a listener that is told about every event of the simulation. With no
+	 * listeners, which is the case in quiet mode, reporting an event costs a check of an
+	 * empty array.
+	 * @param listener
+	 * 	the listener being added
+	 */
+	public void addListener(SimulationListener listener) {
+		listeners = Arrays.copyOf(listeners, listeners.length + 1);
+		listeners[listeners.length - 1] = listener;
+	}
+	
+	/**
+	 * Removes a listener
+	 * @param listener
+	 * 	the listener being removed
+	 * @return
+	 * 	true if the listener had been added
+	 */
+	public boolean removeListener(SimulationListener listener) {
+		for (int i = 0; i < listeners.length; i++) {
+			if (listeners[i] == listener) {
+				SimulationListener[] remaining = new SimulationListener[listeners.length - 1];
+				System.arraycopy(listeners, 0, remaining, 0, i);
+				System.arraycopy(listeners, i + 1, remaining, i, remaining.length - i);
+				listeners = remaining;
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Simulates the arrival of customers to the checkout array in a given minute. The 
+	 * number of customers is drawn in one step from the arrival distribution.
+	 */
+	void simulateArrivals() {
+		addCustomers(arrivals.sample(arrivalRandom));
+	}
+	
+	/**
+	 * Helper method that enqueues arriving customers to the least busy checkout in the
+	 * array, which is kept at the top of a heap so it does not have to be searched for. 
+	 * When running event by event a customer joining an empty checkout also schedules the
+	 * start of their service.
+	 * @param customerArrivals
+	 * 	the number of customers arriving
+	 */
+	private void addCustomers(int customerArrivals) {
+		for (int i = 0; i < customerArrivals; i++) {
+			int newCustomer = customers.add(++lastAssignedNumber, basketSampler, 
+			  basketRandom, issueRandom);
+			customers.setCostInCents(newCustomer, basketSampler.sampleCostInCents(
+			  customers.getNumberOfItems(newCustomer), itemCostRandom));
+			
+			int leastBusy = leastBusyCheckouts.leastBusy();
+			checkouts[leastBusy].enqueueIndex(newCustomer);
+			totalCustomers++;
+			queuedCustomers++;
+			if (checkouts[leastBusy].getSize() == 1) {
+				occupiedLanes[leastBusy >>> 6] |= 1L << leastBusy;
+				if (events != null) {
+					events.add(clock, PHASE_CHECKOUTS, leastBusy, SERVICE_START);
+				}
+			}
+			for (SimulationListener listener : listeners) {
+				listener.onArrival(clock, customers.getNumber(newCustomer), 
+				  customers.getNumberOfItems(newCustomer), leastBusy);
+			}
+		}
+	}
+	
+	/**
+	 * Largely assisted by PingPong
+	 * Helper method for dequeueing customers who are finished to free up space
+	 * for new customers in the checkout queue. The worker of a customer with an issue
+	 * goes straight to the checkout that has waited the longest for one, if any.
+	 * @param index
+	 * 	represents the specific checkout in the array the customer is in
+	 * @param remainingTime
+	 * 	represents the array that stores the remaining ticks of customers
+	 */
+	void handleCompletedCustomers(int index, long[] remainingTime) {
+		int currentCustomer = checkouts[index].peekIndex();
+		
+		if (currentCustomer >= 0 && remainingTime[index] == 0) {
+			if (customers.hasIssue(currentCustomer)) {
+				int lane = workers.release();
+				if (lane >= 0) {
+					remainingTime[lane] = WORKER_ASSIGNED;
+				}
+			}
+			
+			completeCustomer(index, currentCustomer);
+		}
+	}
+	
+	/**
+	 * Helper method for recording a served customer in the performance metrics and 
+	 * dequeueing them from their checkout. What the items of their basket cost the store
+	 * was drawn when they arrived, so the results can be worked out without going over
+	 * every item sold.
+	 * @param index
+	 * 	represents the specific checkout in the array the customer is in
+	 * @param currentCustomer
+	 * 	the index of the customer at the front of that checkout in the customer table
+	 */
+	private void completeCustomer(int index, int currentCustomer) {
+		totalCustomersServed++;
+		grossCents += customers.getPriceInCents(currentCustomer);
+		int numberOfItems = customers.getNumberOfItems(currentCustomer);
+		totalItems += numberOfItems;
+		itemCostCents += customers.getCostInCents(currentCustomer);
+		totalWaitTime += customers.totalTimeSpent(currentCustomer,
+		  INIT_TIME, TIME_PER_ITEM, FIX_TIME, PAYMENT_TIME);
+		
+		for (SimulationListener listener : listeners) {
+			listener.onDeparture(clock, customers.getNumber(currentCustomer), index);
+		}
+		checkouts[index].dequeue();
+		queuedCustomers--;
+		if (checkouts[index].getSize() == 0) {
+			occupiedLanes[index >>> 6] &= ~(1L << index);
+		}
+	}
+	
+	/**
+	 * Helper method for finding the next checkout with somebody on line, including 
+	 * checkouts waiting for a worker. Occupied checkouts are kept as a bitset with one 
+	 * bit per checkout, so empty checkouts are skipped 64 at a time.
+	 * @param from
+	 * 	the index of the first checkout to look at
+	 * @return
+	 * 	the index of the next occupied checkout, or -1 if there are none left
+	 */
+	private int nextOccupiedLane(int from) {
+		int word = from >>> 6;
+		if (word >= occupiedLanes.length) {
+			return -1;
+		}
+		
+		long bits = occupiedLanes[word] & (-1L << from);
+		while (bits == 0) {
+			if (++word == occupiedLanes.length) {
+				return -1;
+			}
+			bits = occupiedLanes[word];
+		}
+		return (word << 6) + Long.numberOfTrailingZeros(bits);
+	}
+	
+	/**
+	 * Assisted by PingPong
+	 * Helper method for checking the tick by tick progress of customers, while 
+	 * also making sure to allocate workers as needed to customers with issues. 
+	 * If no workers are available, the checkout waits in line for a worker and progress
+	 * is halted until handleCompletedCustomers hands it one.
+	 * @param index
+	 * 	represents the specific checkout in the array the customer is in
+	 * @param remainingTime
+	 * 	represents the array that stores the remaining ticks of customers
+	 */
+	void processCheckout(int index, long[] remainingTime) {
+		int currentCustomer = checkouts[index].peekIndex();
+		if (currentCustomer >= 0) {
+			boolean workerAssigned = remainingTime[index] == WORKER_ASSIGNED;
+			if (remainingTime[index] == 0 || workerAssigned) {											
+				double delay = 0;
+				
+				if (customers.hasIssue(currentCustomer)) {
+					if (workerAssigned || workers.tryAcquire()) {
+						delay = FIX_TIME;
+						for (SimulationListener listener : listeners) {
+							listener.onWorkerAssigned(clock, customers.getNumber(currentCustomer),
+							  index);
+						}
+					} else {
+						for (SimulationListener listener : listeners) {
+							listener.onIssue(clock, customers.getNumber(currentCustomer), index);
+						}
+						workers.await(index);
+						remainingTime[index] = WAITING_FOR_WORKER;
+						return;
+					}
+				}
+				remainingTime[index] = serviceTicks(currentCustomer, delay);
+				for (SimulationListener listener : listeners) {
+					listener.onServiceStart(clock, customers.getNumber(currentCustomer), index,
+					  remainingTime[index]);
+				}
+			}
+			
+			if (remainingTime[index] != WAITING_FOR_WORKER) {
+				remainingTime[index]--;		
+			}
+		}
+	}
+	
+	/**
+	 * Helper method for working out how many ticks a customer spends at their checkout.
+	 * All of the service times are whole tenths of a minute, so the time is turned into 
+	 * tenths once and rounded up to a whole tick with integer arithmetic.
+	 * @param customer
+	 * 	the index of the customer in the customer table
+	 * @param fixTime
+	 * 	the time it takes to fix the customer's issue, or 0 if they have none
+	 * @return
+	 * 	the number of ticks the customer spends at the checkout, at least 1
+	 */
+	private long serviceTicks(int customer, double fixTime) {
+		return serviceTicks(customers.getNumberOfItems(customer), customers.hasIssue(customer),
+		  fixTime, ticksPerMinute);
+	}
+	
+	/**
+	 * Helper method for working out how many ticks any customer spends at their checkout,
+	 * shared with QueueingEstimate so the estimate always uses the simulator's own times
+	 * @param numberOfItems
+	 * 	the number of items of the customer
+	 * @param hasIssue
+	 * 	if the customer has a scanning issue
+	 * @param fixTime
+	 * 	the time it takes to fix the customer's issue, or 0 if no worker is helping
+	 * @param ticksPerMinute
+	 * 	the number of ticks every minute is split into
+	 * @return
+	 * 	the number of ticks the customer spends at the checkout, at least 1
+	 */
+	static long serviceTicks(int numberOfItems, boolean hasIssue, double fixTime,
+	  int ticksPerMinute)
+	{
+		long tenths = Math.round(Customer.totalTimeSpent(numberOfItems, hasIssue, INIT_TIME,
+		  TIME_PER_ITEM, fixTime, PAYMENT_TIME) * TENTHS_PER_MINUTE);
+		return Math.max(1, (tenths * ticksPerMinute + TENTHS_PER_MINUTE - 1) / TENTHS_PER_MINUTE);
+	}
+	
+	/**
+	 * Helper method for adding up the total time spent by all customers both waiting
+	 * on line and also scanning. A running count of the customers on line is kept as they
+	 * join and leave, so adding up a tick does not have to look at the checkouts.
+	 */
+	private void accumalateTotalTime() {
+		customerTicksOnLine += queuedCustomers;
+	}
+	
+	/**
+	 * Helper method that prints a log of each checkout in the checkout array per minute, 
+	 * including whether or not the queue is empty and toString representations of each 
+	 * checkout object, which includes toString representations of each customer object.
+	 */
+	public void checkoutStatus() {
+		checkoutStatus(System.out);
+	}
+	
+	/**
+	 * Helper method that prints the log of each checkout to a given stream, for the
+	 * ConsoleListener of the simulation
+	 * @param out
+	 * 	the stream the log is printed to
+	 */
+	void checkoutStatus(PrintStream out) {
+		out.println();
+		for (int i = 0; i < checkouts.length; i++) {
+			out.println("Status of Checkout #" + (i + 1) + ": " 
+			  + (checkouts[i].peekIndex() >= 0 ? "OCCUPIED" : "EMPTY"));
+			out.println("+-----------------+------------+----------------------+");
+			out.print(checkouts[i].toString());
+			out.println("+-----------------+------------+----------------------+\n");
+		}
+	}
+	
+	/**
+	 * Helper method for calculating all performance metrics once the simulation is done
+	 * including the total wait time, profit, and average wait time, as well as gross 
+	 * income, amount of items sold, amount of customers served, efficiency of serving 
+	 * customers, wait time for all customers including customers who were not served yet,
+	 * and total amount of customers. Everything is added up while the simulation runs, so
+	 * this draws no random numbers and can be called as often as needed.
+	 * @return
+	 * 	the performance metrics of the simulation
+	 */
+	public SimulationResults getResults() {
+		profit = 0.0;
+		gross = grossCents / 100.0;
+		double aggregateWaitTime = totalWaitTime + (double) customerTicksOnLine / ticksPerMinute;
+		if (totalCustomers > 0) {
+			averageWaitTime = aggregateWaitTime / totalCustomers;
+		} else {
+			averageWaitTime = 0;
+		}
+		
+		double totalItemCost = itemCostCents / 100.0;
+		
+		double overheadCost = gross * OVERHEAD_COST_PERCENTAGE;
+		double efficiency = ((double)totalCustomersServed / totalCustomers) * 100;
+		
+		if (Double.isNaN(efficiency)) {
+			efficiency = 0;
+		}
+		
+		double workerCosts = ((double) totalNumWorkers * WORKER_WAGE) * ((double) duration / 60.0);
+		profit = gross - workerCosts - totalItemCost - overheadCost;
+		
+		return new SimulationResults(gross, workerCosts, totalItemCost, overheadCost, profit,
+		  totalItems, totalCustomers, totalCustomersServed, efficiency, aggregateWaitTime, 
+		  averageWaitTime);
+	}
+	
+	/**
+	 * Helper method for displaying all performance metrics once the simulation is done
+	 */
+	public void displayResults() {	
+		System.out.println(getResults());
+	}
+	
+	/**
+	 * Assisted by PingPong
+	 * Main logic for running the simulation, runs the simulation in the selected mode
+	 * before displaying the results.
+	 */
+	public void simulate() {	
+		runSimulation();
+		displayResults();
+	}
+	
+	/**
+	 * Runs the simulation in the selected mode without displaying anything at the end, 
+	 * for callers that want to use the results themselves. Every run starts over from 
+	 * the seed with empty checkouts and free workers, so running a simulator again gives
+	 * the same results.
+	 * @return
+	 * 	the performance metrics of the simulation
+	 */
+	public SimulationResults run() {
+		runSimulation();
+		return getResults();
+	}
+	
+	/**
+	 * Helper method that resets the performance metrics and then runs the simulation in
+	 * the selected mode. A run after the first also starts the random streams over and
+	 * builds new checkouts, customers and workers, so nothing is left from the last run.
+	 */
+	private void runSimulation() {
+		if (hasRun) {
+			splitRandomStreams();
+			buildLanes();
+		}
+		hasRun = true;
+		grossCents = 0;
+		itemCostCents = 0;
+		totalCustomers = 0;
+		totalCustomersServed = 0;
+		totalItems = 0;
+		totalWaitTime = 0;
+		customerTicksOnLine = 0;
+		queuedCustomers = 0;
+		lastAssignedNumber = 0;
+		averageWaitTime = 0;
+		totalNumWorkers = numWorkers;
+		for (SimulationListener listener : listeners) {
+			listener.onStart(checkouts.length, ticksPerMinute, duration);
+		}
+		
+		if (mode == Mode.MINUTE_STEPPED) {
+			simulateByMinute();
+		} else {
+			simulateByEvent();
+		}
+		
+		int endTick = (int) Math.min(Integer.MAX_VALUE, (duration + 1L) * ticksPerMinute);
+		for (SimulationListener listener : listeners) {
+			listener.onFinish(endTick);
+		}
+	}
+	
+	/**
+	 * Assisted by PingPong
+	 * Runs the simulation one tick at a time, utilizes the previous helper methods to
+	 * correctly add customers to the checkout array, remove them when they are done, keep
+	 * track of running time, print out minute by minute logs of the simumlation. Customers
+	 * arrive on the first tick of every minute. Only checkouts with somebody on line are
+	 * visited, so a tick costs as much as the number of busy checkouts.
+	 */
+	private void simulateByMinute() {
+		long[] remainingTime = new long[checkouts.length];
+		long endTick = (duration + 1L) * ticksPerMinute;
+		
+		for (long tick = ticksPerMinute; tick < endTick; tick++) {
+			clock = (int) tick;
+			boolean minuteStart = tick % ticksPerMinute == 0;
+			if (minuteStart) {
+				for (SimulationListener listener : listeners) {
+					listener.onMinute((int) (tick / ticksPerMinute));
+				}
+			}
+			
+			for (int j = nextOccupiedLane(0); j >= 0; j = nextOccupiedLane(j + 1)) {
+				handleCompletedCustomers(j, remainingTime);
+			}
+
+			if (minuteStart) {
+				simulateArrivals();
+			}
+			
+			for (int j = nextOccupiedLane(0); j >= 0; j = nextOccupiedLane(j + 1)) {
+				processCheckout(j, remainingTime);
+			}
+			
+	
+			accumalateTotalTime();
+		}
+	}
+	
+	/**
+	 * Runs the simulation one event at a time, jumping the clock straight to the tick of
+	 * the next event instead of visiting every checkout every tick. Within a tick the
+	 * events happen in the same order as the tick by tick loop: customers finishing,
+	 * then arrivals, then checkouts starting their next customer in checkout order. The 
+	 * time customers spend on line is added up for all the ticks between two events at
+	 * once, since nobody joins or leaves a line in between. The number of arrivals of 
+	 * every minute is drawn before the run starts, in the same order the minute by minute
+	 * loop draws them, so minutes nobody arrives in can be skipped entirely.
+	 */
+	private void simulateByEvent() {
+		events = new EventQueue();
+		clock = ticksPerMinute;
+		arrivalsPerMinute = arrivals.sample(arrivalRandom, duration);
+		
+		if (duration >= 1) {
+			scheduleNextArrival(1);
+			for (SimulationListener listener : listeners) {
+				listener.onMinute(1);
+			}
+		}
+		
+		while (!events.isEmpty()) {
+			long event = events.poll();
+			int time = EventQueue.timeOf(event);
+			
+			if (time > clock) {
+				customerTicksOnLine += queuedCustomers * (time - clock);
+				reportMinutes(clock / ticksPerMinute + 1, time / ticksPerMinute);
+				clock = time;
+			}
+			
+			int lane = EventQueue.laneOf(event);
+			switch (EventQueue.typeOf(event)) {
+				case DEPARTURE:
+					handleDeparture(lane);
+					break;
+				case ISSUE_RESOLVED:
+					handleIssueResolved();
+					break;
+				case ARRIVAL:
+					addCustomers(arrivalsPerMinute[clock / ticksPerMinute - 1]);
+					scheduleNextArrival(clock / ticksPerMinute + 1);
+					break;
+				case SERVICE_START:
+					handleServiceStart(lane);
+					break;
+				case ISSUE_START:
+					handleIssueStart(lane);
+					break;
+			}
+		}
+		
+		if (duration >= 1) {
+			customerTicksOnLine += queuedCustomers * ((duration + 1L) * ticksPerMinute - clock);
+			reportMinutes(clock / ticksPerMinute + 1, duration);
+		}
+		events = null;
+		arrivalsPerMinute = null;
+	}
+	
+	/**
+	 * Helper method for telling the listeners about every minute the clock jumps into,
+	 * including minutes without any events, so both modes report the same minutes
+	 * @param first
+	 * 	the first minute to report
+	 * @param last
+	 * 	the last minute to report
+	 */
+	private void reportMinutes(int first, int last) {
+		if (listeners.length == 0) {
+			return;
+		}
+		for (int minute = first; minute <= last; minute++) {
+			for (SimulationListener listener : listeners) {
+				listener.onMinute(minute);
+			}
+		}
+	}
+	
+	/**
+	 * Helper method for the event loop that schedules the next minute anybody arrives in
+	 * @param minute
+	 * 	the first minute that could have the next arrivals
+	 */
+	private void scheduleNextArrival(int minute) {
+		while (minute <= duration && arrivalsPerMinute[minute - 1] == 0) {
+			minute++;
+		}
+		if (minute <= duration) {
+			events.add(minute * ticksPerMinute, PHASE_ARRIVALS, 0, ARRIVAL);
+		}
+	}
+	
+	/**
+	 * Helper method for the event loop that starts serving the customer at the front of a 
+	 * checkout. Customers with an issue need a worker first, and if none are free the
+	 * checkout waits in line for one.
+	 * @param index
+	 * 	represents the specific checkout in the array the customer is in
+	 */
+	private void handleServiceStart(int index) {
+		int currentCustomer = checkouts[index].peekIndex();
+		
+		if (!customers.hasIssue(currentCustomer)) {
+			startService(index, serviceTicks(currentCustomer, 0));
+		} else if (workers.tryAcquire()) {
+			handleIssueStart(index);
+		} else {
+			for (SimulationListener listener : listeners) {
+				listener.onIssue(clock, customers.getNumber(currentCustomer), index);
+			}
+			workers.await(index);
+		}
+	}
+	
+	/**
+	 * Helper method for the event loop that starts serving a customer with an issue once
+	 * a worker has been assigned to them.
+	 * @param index
+	 * 	represents the specific checkout in the array the customer is in
+	 */
+	private void handleIssueStart(int index) {
+		int currentCustomer = checkouts[index].peekIndex();
+		
+		for (SimulationListener listener : listeners) {
+			listener.onWorkerAssigned(clock, customers.getNumber(currentCustomer), index);
+		}
+		startService(index, serviceTicks(currentCustomer, FIX_TIME));
+	}
+	
+	/**
+	 * Helper method for the event loop that frees up the worker of a customer whose issue
+	 * has been resolved. The worker goes straight to the checkout that has waited the 
+	 * longest for one, which starts serving its customer in the same tick.
+	 */
+	private void handleIssueResolved() {
+		int lane = workers.release();
+		
+		if (lane >= 0) {
+			events.add(clock, PHASE_CHECKOUTS, lane, ISSUE_START);
+		}
+	}
+	
+	/**
+	 * Helper method for the event loop that removes a finished customer from their 
+	 * checkout and starts serving the next customer on that line, if there is one.
+	 * @param index
+	 * 	represents the specific checkout in the array the customer is in
+	 */
+	private void handleDeparture(int index) {
+		completeCustomer(index, checkouts[index].peekIndex());
+		
+		if (checkouts[index].getSize() > 0) {
+			events.add(clock, PHASE_CHECKOUTS, index, SERVICE_START);
+		}
+	}
+	
+	/**
+	 * Helper method for the event loop that reports the customer at the front of a 
+	 * checkout starting their service and schedules when they finish
+	 * @param index
+	 * 	represents the specific checkout in the array the customer is in
+	 * @param serviceTicks
+	 * 	the number of ticks the customer spends at the checkout
+	 */
+	private void startService(int index, long serviceTicks) {
+		for (SimulationListener listener : listeners) {
+			listener.onServiceStart(clock, customers.getNumber(checkouts[index].peekIndex()), 
+			  index, serviceTicks);
+		}
+		scheduleDeparture(index, serviceTicks);
+	}
+	
+	/**
+	 * Helper method for the event loop that schedules the tick a customer finishes at, 
+	 * which matches the tick by tick countdown of the remaining time. Customers who would
+	 * finish after the last minute are left on their checkout.
+	 * @param index
+	 * 	represents the specific checkout in the array the customer is in
+	 * @param serviceTicks
+	 * 	the number of ticks the customer spends at the checkout
+	 */
+	private void scheduleDeparture(int index, long serviceTicks) {
+		long finish = clock + serviceTicks;
+		
+		if (finish < (duration + 1L) * ticksPerMinute) {
+			if (customers.hasIssue(checkouts[index].peekIndex())) {
+				events.add((int) finish, PHASE_COMPLETIONS, index, ISSUE_RESOLVED);
+			}
+			events.add((int) finish, PHASE_COMPLETIONS, index, DEPARTURE);
+		}
+	}
+}
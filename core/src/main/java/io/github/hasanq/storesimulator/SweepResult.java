@@ -0,0 +1,90 @@
+package io.github.hasanq.storesimulator;
+
+/**
+ * This class represents the outcome of one scenario of a parameter sweep: the scenario,
+ * its queueing estimate, and the merged performance metrics of its replications unless
+ * the estimate said it was not worth simulating.
+ */
+public class SweepResult {
+	private Scenario scenario;
+	private QueueingEstimate estimate;
+	private ReplicationSummary summary;
+
+	/**
+	 * Constructor for the result of a scenario
+	 * @param scenario
+	 * 	the scenario that was run
+	 * @param summary
+	 * 	the merged performance metrics of its replications
+	 */
+	public SweepResult(Scenario scenario, ReplicationSummary summary) {
+		this(scenario, QueueingEstimate.of(scenario), summary);
+	}
+
+	/**
+	 * Constructor for the result of a scenario with its estimate
+	 * @param scenario
+	 * 	the scenario
+	 * @param estimate
+	 * 	the queueing estimate of the scenario
+	 * @param summary
+	 * 	the merged performance metrics of its replications, or null if it was skipped
+	 */
+	public SweepResult(Scenario scenario, QueueingEstimate estimate, ReplicationSummary summary) {
+		this.scenario = scenario;
+		this.estimate = estimate;
+		this.summary = summary;
+	}
+
+	/**
+	 * Getter for the scenario
+	 * @return
+	 * 	the scenario that was run
+	 */
+	public Scenario getScenario() {
+		return scenario;
+	}
+
+	/**
+	 * Getter for the estimate
+	 * @return
+	 * 	the queueing estimate of the scenario
+	 */
+	public QueueingEstimate getEstimate() {
+		return estimate;
+	}
+
+	/**
+	 * Getter for the summary
+	 * @return
+	 * 	the merged performance metrics of the replications of the scenario, or null if
+	 * 	it was skipped
+	 */
+	public ReplicationSummary getSummary() {
+		return summary;
+	}
+
+	/**
+	 * Checks whether the scenario was skipped
+	 * @return
+	 * 	whether the scenario was left out of the simulations because of its estimate
+	 */
+	public boolean isSkipped() {
+		return summary == null;
+	}
+
+	/**
+	 * toString representation of the result
+	 * @return
+	 * 	the scenario followed by its performance metrics, or by its estimate if it was
+	 * 	skipped
+	 */
+	@Override
+	public String toString() {
+		if (summary == null) {
+			return scenario + "\nSkipped, estimated load " + String.format("%.2f", estimate.getLoad())
+			  + "\n" + estimate;
+		}
+		return scenario + "\n" + summary;
+	}
+}
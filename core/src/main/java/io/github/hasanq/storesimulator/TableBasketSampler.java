@@ -0,0 +1,172 @@
+package io.github.hasanq.storesimulator;
+
+import java.util.random.RandomGenerator;
+/**
+ * This class represents a basket sampler that draws the total of a basket in one step. 
+ * The sum of n uniform items follows the Irwin-Hall distribution, so for every number of
+ * items the probability of every total in cents is worked out once from its CDF and kept 
+ * in an AliasTable. Drawing a basket then takes a single random number no matter how many
+ * items it has. The tables only depend on the item values, so one instance is shared by 
+ * every simulation.
+ */
+public class TableBasketSampler implements BasketSampler {
+	private AliasTable[] priceTables;
+	private AliasTable[] costTables;
+	
+	/**
+	 * Constructor for a table sampler
+	 * @param maxItems
+	 * 	the most items a basket can have
+	 * @param maxItemPrice
+	 * 	the highest price of a single item, in whole cents
+	 * @param maxItemCost
+	 * 	the highest cost of a single item, in whole cents
+	 * @throws IllegalArgumentException
+	 * 	throws this exception if maxItems is negative or a value is not positive
+	 */
+	public TableBasketSampler(int maxItems, double maxItemPrice, double maxItemCost) {
+		if (maxItems < 0) {
+			throw new IllegalArgumentException("Error: Maximum items cannot be negative.");
+		}
+		if (maxItemPrice <= 0 || maxItemCost <= 0) {
+			throw new IllegalArgumentException("Error: Item values must be positive.");
+		}
+		
+		priceTables = buildTables(maxItems, Math.round(maxItemPrice * 100));
+		costTables = buildTables(maxItems, Math.round(maxItemCost * 100));
+	}
+	
+	/**
+	 * Getter for the table sampler of the store, built the first time it is asked for
+	 * @return
+	 * 	the shared table sampler
+	 */
+	static TableBasketSampler getInstance() {
+		return Shared.INSTANCE;
+	}
+	
+	/**
+	 * Holder of the shared sampler, so the tables are only built if they are used
+	 */
+	private static class Shared {
+		static final TableBasketSampler INSTANCE = new TableBasketSampler(Customer.MAX_ITEMS,
+		  Customer.MAX_ITEM_PRICE, Customer.MAX_ITEM_COST);
+	}
+	
+	/**
+	 * Helper method for building a table of totals for every number of items
+	 * @param maxItems
+	 * 	the most items a basket can have
+	 * @param centsPerItem
+	 * 	the highest value of a single item in cents
+	 * @return
+	 * 	the table of totals in cents for 0 to maxItems items
+	 */
+	private static AliasTable[] buildTables(int maxItems, long centsPerItem) {
+		AliasTable[] tables = new AliasTable[maxItems + 1];
+		for (int n = 0; n <= maxItems; n++) {
+			tables[n] = new AliasTable(centWeights(n, centsPerItem));
+		}
+		return tables;
+	}
+	
+	/**
+	 * Helper method for working out the probability of every total in cents of n items,
+	 * which is the chance of the Irwin-Hall sum landing within half a cent of it. The
+	 * distribution is symmetric, so only the lower half is worked out and then mirrored.
+	 * @param n
+	 * 	the number of items
+	 * @param centsPerItem
+	 * 	the highest value of a single item in cents
+	 * @return
+	 * 	the probability of every total from 0 to n * centsPerItem cents
+	 */
+	private static double[] centWeights(int n, long centsPerItem) {
+		int maxCents = (int) (n * centsPerItem);
+		double[] weights = new double[maxCents + 1];
+		
+		double factorial = 1;
+		for (int k = 2; k <= n; k++) {
+			factorial *= k;
+		}
+		
+		double lower = 0;
+		double total = 0;
+		for (int c = 0; c <= maxCents / 2; c++) {
+			double upper = irwinHallCdf(n, (c + 0.5) / centsPerItem, factorial);
+			weights[c] = Math.max(0, upper - lower);
+			weights[maxCents - c] = weights[c];
+			lower = upper;
+		}
+		for (int c = 0; c <= maxCents; c++) {
+			total += weights[c];
+		}
+		for (int c = 0; c <= maxCents; c++) {
+			weights[c] /= total;
+		}
+		return weights;
+	}
+	
+	/**
+	 * Helper method for the CDF of the sum of n uniform numbers between 0 and 1. Points 
+	 * above the middle are mirrored to below it, where the alternating sum has fewer 
+	 * and smaller terms.
+	 * @param n
+	 * 	the number of uniform numbers
+	 * @param x
+	 * 	the point to evaluate the CDF at
+	 * @param factorial
+	 * 	n!
+	 * @return
+	 * 	the probability of the sum being at most x
+	 */
+	private static double irwinHallCdf(int n, double x, double factorial) {
+		if (x <= 0) {
+			return 0;
+		}
+		if (x >= n) {
+			return 1;
+		}
+		if (x > n / 2.0) {
+			return 1 - irwinHallCdf(n, n - x, factorial);
+		}
+		
+		double sum = 0;
+		double choose = 1;
+		for (int k = 0; k <= (int) x; k++) {
+			double term = choose * Math.pow(x - k, n);
+			sum += (k % 2 == 0) ? term : -term;
+			choose = choose * (n - k) / (k + 1);
+		}
+		return sum / factorial;
+	}
+	
+	/**
+	 * Draws the total price of a basket from the table for its number of items
+	 * @param numberOfItems
+	 * 	the number of items in the basket
+	 * @param random
+	 * 	the random stream the price is drawn from
+	 * @return
+	 * 	the total price of the items in cents
+	 */
+	@Override
+	public int samplePriceInCents(int numberOfItems, RandomGenerator random) {
+		return priceTables[numberOfItems].sample(random);
+	}
+	
+	/**
+	 * Draws what the items of a basket cost the store from the table for its number of
+	 * items
+	 * @param numberOfItems
+	 * 	the number of items in the basket
+	 * @param random
+	 * 	the random stream the cost is drawn from
+	 * @return
+	 * 	the total cost of the items in cents
+	 */
+	@Override
+	public int sampleCostInCents(int numberOfItems, RandomGenerator random) {
+		return costTables[numberOfItems].sample(random);
+	}
+}
@@ -0,0 +1,94 @@
+package io.github.hasanq.storesimulator;
+
+/**
+ * This class represents the workers of a store that fix scanning issues. A checkout whose
+ * customer has an issue either takes a free worker straight away or joins a first in,
+ * first out line of checkouts waiting for one. When a worker finishes fixing an issue 
+ * they go directly to the checkout that has waited the longest, so waiting checkouts do 
+ * not need to be checked again until they have a worker.
+ */
+class WorkerPool {
+	private int freeWorkers;
+	private int[] waitingLanes;
+	private int head;
+	private int waiting;
+
+	/**
+	 * Constructor for a pool of free workers
+	 * @param numWorkers
+	 * 	the amount of workers in the store
+	 * @param numberOfCheckouts
+	 * 	the amount of checkouts that could be waiting for a worker at once
+	 */
+	public WorkerPool(int numWorkers, int numberOfCheckouts) {
+		freeWorkers = numWorkers;
+		waitingLanes = new int[numberOfCheckouts];
+	}
+
+	/**
+	 * Takes a free worker if there is one. A worker is never taken ahead of a checkout
+	 * that is already waiting, since a freed worker goes to that checkout instead of 
+	 * becoming free.
+	 * @return
+	 * 	true if a worker was taken
+	 */
+	public boolean tryAcquire() {
+		if (freeWorkers > 0) {
+			freeWorkers--;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Puts a checkout at the back of the line waiting for a worker
+	 * @param lane
+	 * 	the index of the checkout
+	 */
+	public void await(int lane) {
+		int tail = head + waiting;
+		if (tail >= waitingLanes.length) {
+			tail -= waitingLanes.length;
+		}
+		waitingLanes[tail] = lane;
+		waiting++;
+	}
+
+	/**
+	 * Gives back a worker. If a checkout is waiting the worker goes straight to the one
+	 * that has waited the longest, otherwise they become free.
+	 * @return
+	 * 	the index of the checkout that now has the worker, or -1 if nobody was waiting
+	 */
+	public int release() {
+		if (waiting == 0) {
+			freeWorkers++;
+			return -1;
+		}
+		int lane = waitingLanes[head];
+		head++;
+		if (head == waitingLanes.length) {
+			head = 0;
+		}
+		waiting--;
+		return lane;
+	}
+
+	/**
+	 * Getter for the free workers
+	 * @return
+	 * 	the amount of workers not fixing an issue
+	 */
+	public int getFreeWorkers() {
+		return freeWorkers;
+	}
+
+	/**
+	 * Getter for the waiting checkouts
+	 * @return
+	 * 	the amount of checkouts waiting for a worker
+	 */
+	public int getWaiting() {
+		return waiting;
+	}
+}
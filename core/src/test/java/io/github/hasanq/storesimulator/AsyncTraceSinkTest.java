@@ -0,0 +1,110 @@
+package io.github.hasanq.storesimulator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * This class represents the checks of the asynchronous trace: what every kind of
+ * backpressure keeps when the ring buffer is too small for the events, and that a writer
+ * thread that fails does not go unnoticed.
+ */
+class AsyncTraceSinkTest {
+	private static final int EVENTS = 50000;
+
+	@TempDir
+	Path directory;
+
+	/**
+	 * Checks that blocking writes every event in order
+	 */
+	@Test
+	void blockKeepsEveryEvent() throws IOException {
+		Path file = directory.resolve("trace.csv");
+		AsyncTraceSink sink = new AsyncTraceSink(file, 64, AsyncTraceSink.Backpressure.BLOCK);
+		report(sink);
+		sink.close();
+		assertEquals(0, sink.getDropped());
+
+		List<String> lines = Files.readAllLines(file);
+		assertEquals(EVENTS + 1, lines.size());
+		assertEquals("tick,event,customer,checkout,value", lines.get(0));
+		for (int i = 0; i < EVENTS; i++) {
+			assertEquals(i + ",arrival," + (i + 1L) + "," + (i % 7 + 1) + "," + (i % 20 + 1),
+			  lines.get(i + 1));
+		}
+	}
+
+	/**
+	 * Checks that dropping writes or counts every event, in order
+	 */
+	@Test
+	void dropCountsEveryEvent() throws IOException {
+		assertKeptOrDropped(AsyncTraceSink.Backpressure.DROP);
+	}
+
+	/**
+	 * Checks that sampling writes or counts every event, in order
+	 */
+	@Test
+	void sampleCountsEveryEvent() throws IOException {
+		assertKeptOrDropped(AsyncTraceSink.Backpressure.SAMPLE);
+	}
+
+	/**
+	 * Checks that a file the writer thread cannot write to makes close fail
+	 */
+	@Test
+	void writerFailureReachesClose() throws IOException {
+		Path full = Path.of("/dev/full");
+		assumeTrue(Files.isWritable(full));
+		AsyncTraceSink sink = new AsyncTraceSink(full, 16, AsyncTraceSink.Backpressure.BLOCK);
+		for (int i = 0; i < 4; i++) {
+			sink.onArrival(i, i, 1, 0);
+		}
+		assertThrows(UncheckedIOException.class, sink::close);
+	}
+
+	/**
+	 * Helper method for checking that every event is either in the trace or dropped, and
+	 * that the events kept are still in the order they were reported
+	 * @param backpressure
+	 * 	what to do when the ring buffer is full
+	 */
+	private void assertKeptOrDropped(AsyncTraceSink.Backpressure backpressure) throws IOException {
+		Path file = directory.resolve("trace.csv");
+		AsyncTraceSink sink = new AsyncTraceSink(file, 4, backpressure, 4);
+		report(sink);
+		sink.close();
+
+		List<String> lines = Files.readAllLines(file);
+		assertEquals(EVENTS, lines.size() - 1 + sink.getDropped(), backpressure.toString());
+		long last = -1;
+		for (String line : lines.subList(1, lines.size())) {
+			long tick = Long.parseLong(line.substring(0, line.indexOf(',')));
+			assertTrue(tick > last, backpressure.toString());
+			last = tick;
+		}
+	}
+
+	/**
+	 * Helper method for reporting the same arrivals to a sink
+	 * @param sink
+	 * 	the sink
+	 */
+	private static void report(AsyncTraceSink sink) {
+		for (int i = 0; i < EVENTS; i++) {
+			sink.onArrival(i, i + 1L, i % 20 + 1, i % 7);
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package io.github.hasanq.storesimulator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class represents the checks of how far the baskets drawn from the tables are
+ * from the baskets drawn one item at a time. Both have to give the mean and variance of
+ * the sum of uniform items, and the largest gap between their distributions has to be no
+ * more than drawing the same distribution twice would give.
+ */
+class BasketSamplerTest {
+	private static final int SAMPLES = 200000;
+	private static final int[] ITEMS = {0, 1, 2, 5, 20};
+
+	/**
+	 * Checks the prices of baskets, where every item is worth up to 10 dollars
+	 */
+	@Test
+	void pricesMatchExactSampling() {
+		for (int items : ITEMS) {
+			int[] table = sample(BasketSampler.table(), items, true, 1);
+			int[] exact = sample(BasketSampler.exact(), items, true, 2);
+			assertClose(table, exact, items, Customer.MAX_ITEM_PRICE * 100);
+		}
+	}
+
+	/**
+	 * Checks the costs of baskets, where every item costs the store up to 5 dollars
+	 */
+	@Test
+	void costsMatchExactSampling() {
+		for (int items : ITEMS) {
+			int[] table = sample(BasketSampler.table(), items, false, 3);
+			int[] exact = sample(BasketSampler.exact(), items, false, 4);
+			assertClose(table, exact, items, Customer.MAX_ITEM_COST * 100);
+		}
+	}
+
+	/**
+	 * Helper method for drawing sorted basket totals
+	 * @param sampler
+	 * 	the basket sampler
+	 * @param items
+	 * 	the number of items in every basket
+	 * @param price
+	 * 	if the price is drawn instead of the cost
+	 * @param seed
+	 * 	the seed of the random stream
+	 * @return
+	 * 	the totals in cents, smallest first
+	 */
+	private static int[] sample(BasketSampler sampler, int items, boolean price, long seed) {
+		SplittableRandom random = new SplittableRandom(seed);
+		int[] totals = new int[SAMPLES];
+		for (int i = 0; i < SAMPLES; i++) {
+			totals[i] = price ? sampler.samplePriceInCents(items, random)
+			  : sampler.sampleCostInCents(items, random);
+		}
+		Arrays.sort(totals);
+		return totals;
+	}
+
+	/**
+	 * Helper method for comparing the two samplers with each other and with the sum of
+	 * uniform items. The means have to be within 4 standard errors of the sum, the
+	 * variances within 2%, and the Kolmogorov-Smirnov distance between the two samples
+	 * below its 1% critical value.
+	 * @param table
+	 * 	the sorted totals drawn from the tables
+	 * @param exact
+	 * 	the sorted totals drawn one item at a time
+	 * @param items
+	 * 	the number of items in every basket
+	 * @param maxCents
+	 * 	the highest value of an item in cents
+	 */
+	private static void assertClose(int[] table, int[] exact, int items, double maxCents) {
+		double mean = items * maxCents / 2;
+		double variance = items * maxCents * maxCents / 12;
+		double error = 4 * Math.sqrt(variance / SAMPLES) + 0.5;
+		for (int[] totals : new int[][] {table, exact}) {
+			double sum = 0;
+			for (int total : totals) {
+				sum += total;
+			}
+			double sampleMean = sum / SAMPLES;
+			double squares = 0;
+			for (int total : totals) {
+				squares += (total - sampleMean) * (total - sampleMean);
+			}
+			assertEquals(mean, sampleMean, error, items + " items");
+			assertEquals(variance, squares / (SAMPLES - 1), variance * 0.02 + 1, items + " items");
+		}
+
+		double critical = 1.63 * Math.sqrt(2.0 / SAMPLES);
+		double distance = distance(table, exact);
+		assertTrue(distance < critical, items + " items: distance " + distance
+		  + " is not below " + critical);
+	}
+
+	/**
+	 * Helper method for the Kolmogorov-Smirnov distance between two samples, the largest
+	 * gap between their cumulative distributions
+	 * @param a
+	 * 	the first sample, sorted
+	 * @param b
+	 * 	the second sample, sorted
+	 * @return
+	 * 	the largest gap, from 0 to 1
+	 */
+	private static double distance(int[] a, int[] b) {
+		int i = 0;
+		int j = 0;
+		double largest = 0;
+		while (i < a.length && j < b.length) {
+			int value = Math.min(a[i], b[j]);
+			while (i < a.length && a[i] == value) {
+				i++;
+			}
+			while (j < b.length && b[j] == value) {
+				j++;
+			}
+			largest = Math.max(largest, Math.abs((double) i / a.length - (double) j / b.length));
+		}
+		return largest;
+	}
+}
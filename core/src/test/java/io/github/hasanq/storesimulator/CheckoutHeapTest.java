@@ -0,0 +1,84 @@
+package io.github.hasanq.storesimulator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class represents the checks of the checkout heap. The heap has to pick the same
+ * checkout as the linear scan it replaced, which took the first checkout with the
+ * smallest queue.
+ */
+class CheckoutHeapTest {
+
+	/**
+	 * Checks that the heap agrees with the linear scan after every customer joining or
+	 * leaving a random checkout, for stores of several sizes
+	 */
+	@Test
+	void leastBusyMatchesLinearScan() {
+		SplittableRandom random = new SplittableRandom(1);
+		for (int numberOfCheckouts : new int[] {1, 2, 3, 7, 16, 33}) {
+			CheckoutHeap heap = new CheckoutHeap(numberOfCheckouts);
+			int[] sizes = new int[numberOfCheckouts];
+			assertEquals(0, heap.leastBusy());
+
+			for (int i = 0; i < 20000; i++) {
+				int checkout = random.nextInt(numberOfCheckouts);
+				if (sizes[checkout] > 0 && random.nextBoolean()) {
+					sizes[checkout]--;
+					heap.decreased(checkout);
+				} else {
+					sizes[checkout]++;
+					heap.increased(checkout);
+				}
+				assertEquals(linearScan(sizes), heap.leastBusy(), numberOfCheckouts
+				  + " checkouts after " + (i + 1) + " changes");
+			}
+		}
+	}
+
+	/**
+	 * Checks that the heap follows the checkouts attached to it, so a tie goes to the
+	 * lowest checkout and a checkout that empties first is chosen again
+	 */
+	@Test
+	void followsAttachedCheckouts() {
+		CustomerTable customers = new CustomerTable();
+		CheckoutHeap heap = new CheckoutHeap(3);
+		Checkout[] checkouts = new Checkout[3];
+		for (int i = 0; i < checkouts.length; i++) {
+			checkouts[i] = new Checkout(customers);
+			checkouts[i].attach(heap, i);
+		}
+
+		for (int i = 0; i < 6; i++) {
+			int lane = heap.leastBusy();
+			assertEquals(i % 3, lane);
+			checkouts[lane].enqueue(new Customer());
+		}
+		checkouts[2].dequeue();
+		assertEquals(2, heap.leastBusy());
+		checkouts[1].dequeue();
+		assertEquals(1, heap.leastBusy());
+	}
+
+	/**
+	 * Helper method for the linear scan the heap replaced
+	 * @param sizes
+	 * 	the size of the queue at every checkout
+	 * @return
+	 * 	the index of the first checkout with the smallest queue
+	 */
+	private static int linearScan(int[] sizes) {
+		int least = 0;
+		for (int i = 1; i < sizes.length; i++) {
+			if (sizes[i] < sizes[least]) {
+				least = i;
+			}
+		}
+		return least;
+	}
+}
@@ -0,0 +1,114 @@
+package io.github.hasanq.storesimulator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class represents the checks of the checkout queue. The queue is a circular array
+ * that starts with room for 8 customers, so the front of the line wraps around the end
+ * of the array and the array grows while it is wrapped.
+ */
+class CheckoutTest {
+
+	/**
+	 * Checks that customers leave in the order they joined while the queue wraps around
+	 * the end of the array and grows twice
+	 */
+	@Test
+	void keepsOrderWhileWrappingAndGrowing() {
+		Checkout checkout = new Checkout();
+		long next = 1;
+		long first = 1;
+		for (int i = 0; i < 5; i++) {
+			checkout.enqueue(customer(next++));
+			checkout.dequeue();
+			first++;
+		}
+
+		for (int size : new int[] {8, 9, 20, 3, 17, 40}) {
+			while (checkout.getSize() < size) {
+				checkout.enqueue(customer(next++));
+			}
+			while (checkout.getSize() > size) {
+				assertEquals(first++, checkout.peek().getNumber());
+				checkout.dequeue();
+			}
+			assertLine(checkout, first, next);
+		}
+
+		while (checkout.getSize() > 0) {
+			assertEquals(first++, checkout.peek().getNumber());
+			checkout.dequeue();
+		}
+		assertEquals(next, first);
+	}
+
+	/**
+	 * Checks that a customer copied into the queue keeps their items, price and issue
+	 */
+	@Test
+	void keepsCustomers() {
+		Checkout checkout = new Checkout();
+		Customer customer = new Customer(7, 12, 34.56, true);
+		checkout.enqueue(customer);
+
+		Customer copy = checkout.peek();
+		assertEquals(7, copy.getNumber());
+		assertEquals(12, copy.getNumberOfItems());
+		assertEquals(34.56, copy.getPriceOfItems(), 1e-9);
+		assertEquals(true, copy.hasIssue());
+	}
+
+	/**
+	 * Checks that an empty queue has nobody at the front and ignores a dequeue
+	 */
+	@Test
+	void emptyQueue() {
+		Checkout checkout = new Checkout();
+		assertNull(checkout.peek());
+		assertEquals(-1, checkout.peekIndex());
+
+		checkout.dequeue();
+		assertEquals(0, checkout.getSize());
+		checkout.enqueue(customer(1));
+		checkout.dequeue();
+		checkout.dequeue();
+		assertEquals(0, checkout.getSize());
+		assertEquals(-1, checkout.peekIndex());
+	}
+
+	/**
+	 * Helper method for a customer that only needs a number
+	 * @param number
+	 * 	the customer number
+	 * @return
+	 * 	the customer
+	 */
+	private static Customer customer(long number) {
+		return new Customer(number, 1, 1.0, false);
+	}
+
+	/**
+	 * Helper method for checking every customer in line, front of the line first
+	 * @param checkout
+	 * 	the checkout
+	 * @param first
+	 * 	the number of the customer at the front of the line
+	 * @param next
+	 * 	the number of the customer that will join next
+	 */
+	private static void assertLine(Checkout checkout, long first, long next) {
+		assertEquals(next - first, checkout.getSize());
+		List<Customer> view = checkout.customerView();
+		List<Customer> copy = checkout.getCustomers();
+		assertEquals(checkout.getSize(), view.size());
+		for (int i = 0; i < view.size(); i++) {
+			assertEquals(first + i, view.get(i).getNumber());
+			assertEquals(first + i, copy.get(i).getNumber());
+		}
+	}
+}
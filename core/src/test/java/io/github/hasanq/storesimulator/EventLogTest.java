@@ -0,0 +1,197 @@
+package io.github.hasanq.storesimulator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * This class represents the checks of the binary event log: every event a simulation
+ * reports is read back as it was written, also past the end of the first chunk the
+ * reader maps.
+ */
+class EventLogTest {
+	@TempDir
+	Path directory;
+
+	/**
+	 * Checks that the events of a simulation are read back in order with the header of
+	 * the run
+	 */
+	@Test
+	void roundTrip() throws IOException {
+		Path file = directory.resolve("events.log");
+		StoreSimulator simulator = newSimulator();
+		Recorder recorder = new Recorder();
+		simulator.addListener(recorder);
+		try (EventLogWriter writer = new EventLogWriter(file)) {
+			simulator.addListener(writer);
+			simulator.run();
+			assertEquals(recorder.events.size(), writer.getEvents());
+		}
+
+		try (EventLogReader reader = new EventLogReader(file)) {
+			assertEquals(10, reader.getTicksPerMinute());
+			assertEquals(3, reader.getNumberOfCheckouts());
+			assertEquals(120, reader.getDuration());
+			assertEquals(recorder.events.size(), reader.getEventCount());
+			assertEvents(recorder.events, reader);
+			reader.rewind();
+			assertEvents(recorder.events, reader);
+		}
+	}
+
+	/**
+	 * Checks that a writer kept for a second run appends its events to the same log
+	 */
+	@Test
+	void reusedWriter() throws IOException {
+		Path file = directory.resolve("events.log");
+		StoreSimulator simulator = newSimulator();
+		Recorder recorder = new Recorder();
+		simulator.addListener(recorder);
+		try (EventLogWriter writer = new EventLogWriter(file)) {
+			simulator.addListener(writer);
+			simulator.run();
+			simulator.run();
+		}
+
+		try (EventLogReader reader = new EventLogReader(file)) {
+			assertEquals(10, reader.getTicksPerMinute());
+			assertEquals(recorder.events.size(), reader.getEventCount());
+			assertEvents(recorder.events, reader);
+		}
+	}
+
+	/**
+	 * Checks the records on both sides of the end of the first 1 GB chunk, in a sparse
+	 * file so only the records around the boundary take up space
+	 */
+	@Test
+	void readsAcrossChunks() throws IOException {
+		Path file = directory.resolve("large.log");
+		long first = EventLogReader.RECORDS_PER_CHUNK - 1;
+		long[][] events = {
+			{100, EventLogWriter.ARRIVAL, 5, 7, 12},
+			{101, EventLogWriter.SERVICE_START, 6, 7, 30},
+			{102, EventLogWriter.DEPARTURE, (1 << EventLogWriter.LANE_BITS) - 1, 1L << 40, 0}
+		};
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+		  StandardOpenOption.WRITE, StandardOpenOption.SPARSE))
+		{
+			ByteBuffer header = ByteBuffer.allocate(EventLogWriter.HEADER_BYTES)
+			  .order(ByteOrder.LITTLE_ENDIAN);
+			header.putInt(EventLogWriter.MAGIC).putInt(EventLogWriter.VERSION).putInt(1)
+			  .putInt(4).putInt(60).putInt(0).flip();
+			channel.write(header, 0);
+			for (int i = 0; i < events.length; i++) {
+				ByteBuffer record = ByteBuffer.allocate(EventLogWriter.RECORD_BYTES)
+				  .order(ByteOrder.LITTLE_ENDIAN);
+				record.putInt((int) events[i][0])
+				  .putInt((int) (events[i][1] << EventLogWriter.LANE_BITS | events[i][2]))
+				  .putLong(events[i][3]).putInt((int) events[i][4]).flip();
+				channel.write(record, EventLogWriter.HEADER_BYTES
+				  + (first + i) * EventLogWriter.RECORD_BYTES);
+			}
+		}
+
+		try (EventLogReader reader = new EventLogReader(file)) {
+			assertEquals(first + events.length, reader.getEventCount());
+			for (long i = 0; i < first; i++) {
+				assertTrue(reader.next());
+			}
+			for (long[] event : events) {
+				assertTrue(reader.next());
+				assertArrayEquals(event, read(reader));
+			}
+			assertFalse(reader.next());
+		}
+	}
+
+	/**
+	 * Helper method for a seeded simulation with ticks, issues and workers
+	 * @return
+	 * 	the simulator
+	 */
+	private static StoreSimulator newSimulator() {
+		StoreSimulator simulator = new StoreSimulator(3, 0.8, 1, 120, 4, 11L);
+		simulator.setQuiet(true);
+		simulator.setTicksPerMinute(10);
+		return simulator;
+	}
+
+	/**
+	 * Helper method for checking every remaining event of a log
+	 * @param expected
+	 * 	the events the simulation reported
+	 * @param reader
+	 * 	the reader of the log
+	 */
+	private static void assertEvents(List<long[]> expected, EventLogReader reader)
+	  throws IOException
+	{
+		for (int i = 0; i < expected.size(); i++) {
+			assertTrue(reader.next(), "event " + i);
+			assertArrayEquals(expected.get(i), read(reader), "event " + i);
+		}
+		assertFalse(reader.next());
+	}
+
+	/**
+	 * Helper method for the event the reader is at
+	 * @param reader
+	 * 	the reader of the log
+	 * @return
+	 * 	the tick, type, checkout, customer and value of the event
+	 */
+	private static long[] read(EventLogReader reader) {
+		return new long[] {reader.getTick(), reader.getType(), reader.getCheckout(),
+		  reader.getCustomer(), reader.getValue()};
+	}
+
+	/**
+	 * This class represents a listener keeping every event in memory the way the log
+	 * stores it
+	 */
+	private static class Recorder implements SimulationListener {
+		private List<long[]> events = new ArrayList<>();
+
+		@Override
+		public void onArrival(int tick, long customer, int numberOfItems, int checkout) {
+			events.add(new long[] {tick, EventLogWriter.ARRIVAL, checkout, customer, numberOfItems});
+		}
+
+		@Override
+		public void onServiceStart(int tick, long customer, int checkout, long serviceTicks) {
+			events.add(new long[] {tick, EventLogWriter.SERVICE_START, checkout, customer,
+			  serviceTicks});
+		}
+
+		@Override
+		public void onIssue(int tick, long customer, int checkout) {
+			events.add(new long[] {tick, EventLogWriter.ISSUE, checkout, customer, 0});
+		}
+
+		@Override
+		public void onWorkerAssigned(int tick, long customer, int checkout) {
+			events.add(new long[] {tick, EventLogWriter.WORKER_ASSIGNED, checkout, customer, 0});
+		}
+
+		@Override
+		public void onDeparture(int tick, long customer, int checkout) {
+			events.add(new long[] {tick, EventLogWriter.DEPARTURE, checkout, customer, 0});
+		}
+	}
+}
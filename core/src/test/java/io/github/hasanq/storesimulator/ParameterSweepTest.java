@@ -0,0 +1,78 @@
+package io.github.hasanq.storesimulator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class represents the checks of a parameter sweep. Scenarios finish in whatever
+ * order the pool runs them, and their results still have to come out in key order.
+ */
+class ParameterSweepTest {
+
+	/**
+	 * Checks that the reorder buffer hands over results in key order as soon as every
+	 * earlier result is in, when they finish in a shuffled order
+	 */
+	@Test
+	void reorderKeepsKeyOrder() {
+		SplittableRandom random = new SplittableRandom(5);
+		for (int round = 0; round < 20; round++) {
+			int size = 1 + random.nextInt(50);
+			int[] order = new int[size];
+			for (int i = 0; i < size; i++) {
+				int j = random.nextInt(i + 1);
+				order[i] = order[j];
+				order[j] = i;
+			}
+
+			List<SweepResult> delivered = new ArrayList<>();
+			ParameterSweep.Reorder reorder = new ParameterSweep.Reorder(delivered::add, size);
+			boolean[] finished = new boolean[size];
+			int ready = 0;
+			for (int index : order) {
+				reorder.complete(new SweepResult(new Scenario(index, 1, 0.5, 0, 10, 1),
+				  new ReplicationSummary()));
+				finished[index] = true;
+				while (ready < size && finished[ready]) {
+					ready++;
+				}
+				assertEquals(ready, delivered.size());
+			}
+			for (int i = 0; i < size; i++) {
+				assertEquals(i, delivered.get(i).getScenario().getIndex());
+			}
+		}
+	}
+
+	/**
+	 * Checks that a sweep whose scenarios take very different times comes out in key
+	 * order on a pool of several threads, with the results of a single thread
+	 */
+	@Test
+	void sweepKeepsKeyOrder() {
+		ParameterSweep sweep = new ParameterSweep(new int[] {1, 3}, new int[] {0, 2},
+		  new double[] {0.3, 0.9}, new int[] {4}, new int[] {5, 600});
+		sweep.setReplications(3);
+		sweep.setSeed(8L);
+
+		List<SweepResult> parallel = new ArrayList<>();
+		sweep.run(parallel::add, new ForkJoinPool(4));
+		List<SweepResult> serial = new ArrayList<>();
+		sweep.run(serial::add, new ForkJoinPool(1));
+
+		assertEquals(sweep.size(), parallel.size());
+		for (int i = 0; i < sweep.size(); i++) {
+			assertEquals(i, parallel.get(i).getScenario().getIndex());
+			assertEquals(sweep.getScenario(i).getDuration(),
+			  parallel.get(i).getScenario().getDuration());
+			assertEquals(serial.get(i).getSummary().getProfit().getMean(),
+			  parallel.get(i).getSummary().getProfit().getMean(), 1e-9);
+		}
+	}
+}
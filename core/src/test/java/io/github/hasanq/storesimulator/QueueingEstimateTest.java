@@ -0,0 +1,39 @@
+package io.github.hasanq.storesimulator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class represents the checks of the queueing estimate against known values of the
+ * Erlang C formula.
+ */
+class QueueingEstimateTest {
+
+	/**
+	 * Checks the probability of waiting against textbook values worked out from the
+	 * formula by hand
+	 */
+	@Test
+	void erlangCMatchesTextbook() {
+		assertEquals(0.5, QueueingEstimate.erlangC(1, 0.5), 1e-12);
+		assertEquals(0.9, QueueingEstimate.erlangC(1, 0.9), 1e-12);
+		assertEquals(1.0 / 3, QueueingEstimate.erlangC(2, 1), 1e-12);
+		assertEquals(4.0 / 9, QueueingEstimate.erlangC(3, 2), 1e-12);
+		assertEquals(0.5541125541125541, QueueingEstimate.erlangC(5, 4), 1e-12);
+		assertEquals(0.40918015079644354, QueueingEstimate.erlangC(10, 8), 1e-12);
+		assertEquals(0.1604293874169236, QueueingEstimate.erlangC(20, 15), 1e-12);
+	}
+
+	/**
+	 * Checks that many servers do not overflow, and that an idle or overloaded store is
+	 * never or always waited in
+	 */
+	@Test
+	void erlangCLimits() {
+		assertEquals(0.06825341537714143, QueueingEstimate.erlangC(1000, 950), 1e-9);
+		assertEquals(0, QueueingEstimate.erlangC(4, 0));
+		assertEquals(1, QueueingEstimate.erlangC(4, 4));
+		assertEquals(1, QueueingEstimate.erlangC(4, 7.5));
+	}
+}
@@ -0,0 +1,76 @@
+package io.github.hasanq.storesimulator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class represents the checks of running replications until their results are
+ * precise enough.
+ */
+class ReplicationRunnerTest {
+
+	/**
+	 * Checks that a precision the first batch already reaches stops at the minimum, with
+	 * the same replications run would have run
+	 */
+	@Test
+	void stopsAtMinimumWhenPrecise() {
+		ReplicationRunner runner = newRunner();
+		ReplicationSummary summary = runner.runUntil(100, 5, 50);
+		assertEquals(5, summary.getReplications());
+		assertTrue(summary.isPrecise(100));
+		assertEquals(runner.run(5).getGross().getMean(), summary.getGross().getMean(), 1e-9);
+	}
+
+	/**
+	 * Checks that a precision that is never reached stops at the maximum
+	 */
+	@Test
+	void stopsAtMaximumWhenNeverPrecise() {
+		ReplicationSummary summary = newRunner().runUntil(1e-9, 3, 7);
+		assertEquals(7, summary.getReplications());
+		assertFalse(summary.isPrecise(1e-9));
+	}
+
+	/**
+	 * Checks that stopping once precise gives the same replications on pools of any size
+	 */
+	@Test
+	void poolSizeDoesNotChangeResults() {
+		ReplicationSummary common = newRunner().runUntil(0.02, 4, 200);
+		ReplicationSummary single = newRunner().runUntil(0.02, 4, 200, new ForkJoinPool(1));
+		assertEquals(common.getReplications(), single.getReplications());
+		assertTrue(common.getReplications() > 4);
+		assertEquals(common.getProfit().getMean(), single.getProfit().getMean(), 1e-9);
+		assertEquals(common.getProfit().getVariance(), single.getProfit().getVariance(), 1e-6);
+	}
+
+	/**
+	 * Checks that a precision or replication bounds that cannot work are rejected
+	 */
+	@Test
+	void rejectsBadBounds() {
+		ReplicationRunner runner = newRunner();
+		assertThrows(IllegalArgumentException.class, () -> runner.runUntil(0, 5, 10));
+		assertThrows(IllegalArgumentException.class, () -> runner.runUntil(Double.NaN, 5, 10));
+		assertThrows(IllegalArgumentException.class, () -> runner.runUntil(0.1, 1, 10));
+		assertThrows(IllegalArgumentException.class, () -> runner.runUntil(0.1, 5, 4));
+	}
+
+	/**
+	 * Helper method for a seeded runner of a small scenario where customers wait
+	 * @return
+	 * 	the runner
+	 */
+	private static ReplicationRunner newRunner() {
+		ReplicationRunner runner = new ReplicationRunner(2, 0.9, 1, 120, 4);
+		runner.setSeed(17L);
+		return runner;
+	}
+}
@@ -0,0 +1,144 @@
+package io.github.hasanq.storesimulator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class represents the checks of the running summary of a metric: the one pass
+ * mean and variance, merging summaries, and the Student's t confidence interval.
+ */
+class StatisticTest {
+
+	/**
+	 * Checks the one pass mean and variance against the two pass formulas, with values far
+	 * from 0 where summing squares would lose the variance
+	 */
+	@Test
+	void matchesTwoPass() {
+		SplittableRandom random = new SplittableRandom(3);
+		double[] values = new double[10000];
+		Statistic statistic = new Statistic();
+		for (int i = 0; i < values.length; i++) {
+			values[i] = 1e9 + random.nextDouble() * 10;
+			statistic.add(values[i]);
+		}
+
+		double mean = 0;
+		for (double value : values) {
+			mean += value;
+		}
+		mean /= values.length;
+		double variance = 0;
+		for (double value : values) {
+			variance += (value - mean) * (value - mean);
+		}
+		variance /= values.length - 1;
+
+		assertEquals(values.length, statistic.getCount());
+		assertEquals(mean, statistic.getMean(), 1e-4);
+		assertEquals(variance, statistic.getVariance(), variance * 1e-6);
+		assertEquals(Math.sqrt(variance), statistic.getStandardDeviation(), 1e-6);
+	}
+
+	/**
+	 * Checks that merging the summaries of uneven parts of the values in pairs gives the
+	 * summary of adding every value to one
+	 */
+	@Test
+	void combineMatchesAddingEverything() {
+		SplittableRandom random = new SplittableRandom(4);
+		Statistic all = new Statistic();
+		Statistic[] parts = new Statistic[8];
+		for (int i = 0; i < parts.length; i++) {
+			parts[i] = new Statistic();
+			int count = i == 3 ? 0 : 1 + random.nextInt(100 * (i + 1));
+			for (int j = 0; j < count; j++) {
+				double value = 500 + random.nextGaussian() * (i + 1) * 20;
+				parts[i].add(value);
+				all.add(value);
+			}
+		}
+
+		for (int width = 1; width < parts.length; width *= 2) {
+			for (int i = 0; i + width < parts.length; i += 2 * width) {
+				parts[i].combine(parts[i + width]);
+			}
+		}
+
+		assertEquals(all.getCount(), parts[0].getCount());
+		assertEquals(all.getMean(), parts[0].getMean(), 1e-9);
+		assertEquals(all.getVariance(), parts[0].getVariance(), all.getVariance() * 1e-9);
+
+		Statistic empty = new Statistic();
+		empty.combine(all);
+		assertEquals(all.getCount(), empty.getCount());
+		assertEquals(all.getMean(), empty.getMean(), 1e-9);
+		assertEquals(all.getVariance(), empty.getVariance(), all.getVariance() * 1e-9);
+	}
+
+	/**
+	 * Checks the half width of the confidence interval against the t distribution, from
+	 * the table for a few values and from the expansion for many
+	 */
+	@Test
+	void halfWidthUsesStudentsT() {
+		Statistic statistic = new Statistic();
+		statistic.add(5);
+		assertEquals(0, statistic.getHalfWidth());
+
+		statistic = values(2);
+		assertEquals(12.706 * statistic.getStandardDeviation() / Math.sqrt(2),
+		  statistic.getHalfWidth(), 1e-9);
+
+		statistic = values(31);
+		assertEquals(2.042 * statistic.getStandardDeviation() / Math.sqrt(31),
+		  statistic.getHalfWidth(), 1e-9);
+
+		for (int[] t : new int[][] {{61, 2000}, {121, 1980}, {1001, 1962}}) {
+			statistic = values(t[0]);
+			assertEquals(t[1] / 1000.0 * statistic.getStandardDeviation() / Math.sqrt(t[0]),
+			  statistic.getHalfWidth(), 1e-3 * statistic.getStandardDeviation());
+		}
+	}
+
+	/**
+	 * Checks that a summary is precise once its half width is within the precision times
+	 * the mean, and how many values it is expected to need before that
+	 */
+	@Test
+	void precision() {
+		Statistic statistic = new Statistic();
+		statistic.add(1);
+		assertFalse(statistic.isPrecise(100));
+		assertEquals(2, statistic.getRequiredCount(0.1));
+
+		statistic.add(3);
+		assertTrue(statistic.isPrecise(6.353));
+		assertFalse(statistic.isPrecise(6.35));
+		assertEquals(2, statistic.getRequiredCount(6.353));
+
+		long required = statistic.getRequiredCount(0.1);
+		assertEquals((long) Math.ceil(Math.pow(1.959963984540054 * Math.sqrt(2) / 0.2, 2)),
+		  required);
+	}
+
+	/**
+	 * Helper method for a summary of the values 1 to count
+	 * @param count
+	 * 	the amount of values
+	 * @return
+	 * 	the summary
+	 */
+	private static Statistic values(int count) {
+		Statistic statistic = new Statistic();
+		for (int i = 1; i <= count; i++) {
+			statistic.add(i);
+		}
+		return statistic;
+	}
+}
@@ -0,0 +1,193 @@
+package io.github.hasanq.storesimulator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class represents the regression checks of the store simulator. Both simulation
+ * modes have to give the same results for the same seed, and seeded results only change
+ * when a change to the simulation is meant to change them.
+ */
+class StoreSimulatorTest {
+	private static final int[] TICKS_PER_MINUTE = {1, 3, 10};
+
+	/**
+	 * Checks that the discrete-event and minute-stepped modes give identical results for
+	 * the same seed, at every time resolution, basket sampler and antithetic setting
+	 */
+	@Test
+	void modesGiveIdenticalResults() {
+		int[][] scenarios = {{3, 1, 200, 4}, {5, 0, 100, 4}, {8, 2, 500, 4}, {2, 1, 300, 6},
+		  {1, 3, 120, 1}};
+		double[] arrivalProbs = {0.6, 0.6, 0.6, 0.9, 0.3};
+		for (int i = 0; i < scenarios.length; i++) {
+			int[] scenario = scenarios[i];
+			for (int ticksPerMinute : TICKS_PER_MINUTE) {
+				for (boolean exact : new boolean[] {false, true}) {
+					for (boolean antithetic : new boolean[] {false, true}) {
+						long seed = 42L + i;
+						SimulationResults stepped = run(scenario, arrivalProbs[i], seed,
+						  StoreSimulator.Mode.MINUTE_STEPPED, ticksPerMinute, exact, antithetic);
+						SimulationResults discrete = run(scenario, arrivalProbs[i], seed,
+						  StoreSimulator.Mode.DISCRETE_EVENT, ticksPerMinute, exact, antithetic);
+						assertSameResults(stepped, discrete, "scenario " + i + " at "
+						  + ticksPerMinute + " ticks per minute, exact " + exact
+						  + ", antithetic " + antithetic);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Checks that a seed still gives the results it gave when the item costs got their
+	 * own column, so a change to the random draws, the basket samplers or the antithetic
+	 * streams shows up here
+	 */
+	@Test
+	void seededResultsAreUnchanged() {
+		assertResults(() -> new StoreSimulator(4, 0.6, 1, 480, 4, 42L),
+		  587, 393, 4133, 20550.02, 10275.31, 48372.8);
+
+		assertResults(() -> {
+			StoreSimulator exact = new StoreSimulator(6, 0.9, 2, 300, 5, 7L);
+			exact.setBasketSampler(BasketSampler.exact());
+			return exact;
+		}, 718, 486, 5080, 25433.58, 12737.45, 38576.0);
+
+		assertResults(() -> {
+			StoreSimulator antithetic = new StoreSimulator(3, 0.5, 0, 200, 3, 2024L);
+			antithetic.setAntithetic(true);
+			return antithetic;
+		}, 170, 11, 137, 693.32, 361.69, 14902.2);
+	}
+
+	/**
+	 * Checks that running the same seeded scenario twice gives the same results
+	 */
+	@Test
+	void sameSeedGivesSameResults() {
+		int[] scenario = {4, 1, 480, 4};
+		for (StoreSimulator.Mode mode : StoreSimulator.Mode.values()) {
+			assertSameResults(run(scenario, 0.6, 99L, mode, 1, false, false),
+			  run(scenario, 0.6, 99L, mode, 1, false, false), mode.toString());
+		}
+	}
+
+	/**
+	 * Checks that running the same simulator again starts over from the seed instead of
+	 * carrying on with the customers, workers and totals of the last run
+	 */
+	@Test
+	void runningAgainGivesSameResults() {
+		for (StoreSimulator.Mode mode : StoreSimulator.Mode.values()) {
+			for (boolean antithetic : new boolean[] {false, true}) {
+				StoreSimulator simulator = new StoreSimulator(2, 0.9, 1, 300, 4, 5L);
+				simulator.setQuiet(true);
+				simulator.setMode(mode);
+				simulator.setAntithetic(antithetic);
+				SimulationResults first = simulator.run();
+				assertSameResults(first, simulator.run(), mode + ", antithetic " + antithetic);
+				simulator.setMode(mode == StoreSimulator.Mode.DISCRETE_EVENT
+				  ? StoreSimulator.Mode.MINUTE_STEPPED : StoreSimulator.Mode.DISCRETE_EVENT);
+				assertSameResults(first, simulator.run(), "other mode after " + mode);
+			}
+		}
+	}
+
+	/**
+	 * Helper method for running a seeded scenario quietly
+	 * @param scenario
+	 * 	the number of checkouts, workers, duration and maximum customers per minute
+	 * @param arrivalProb
+	 * 	the probability of a customer arriving at a given minute
+	 * @param seed
+	 * 	the seed of the simulation
+	 * @param mode
+	 * 	the simulation mode
+	 * @param ticksPerMinute
+	 * 	the number of ticks every minute is split into
+	 * @param exact
+	 * 	if every item is drawn on its own instead of from the basket tables
+	 * @param antithetic
+	 * 	if the mirrored random streams are used
+	 * @return
+	 * 	the results of the simulation
+	 */
+	private static SimulationResults run(int[] scenario, double arrivalProb, long seed,
+	  StoreSimulator.Mode mode, int ticksPerMinute, boolean exact, boolean antithetic)
+	{
+		StoreSimulator simulator = new StoreSimulator(scenario[0], arrivalProb, scenario[1],
+		  scenario[2], scenario[3], seed);
+		simulator.setQuiet(true);
+		simulator.setMode(mode);
+		simulator.setTicksPerMinute(ticksPerMinute);
+		if (exact) {
+			simulator.setBasketSampler(BasketSampler.exact());
+		}
+		simulator.setAntithetic(antithetic);
+		return simulator.run();
+	}
+
+	/**
+	 * Helper method for checking that two runs agree on every result
+	 * @param expected
+	 * 	the results of the first run
+	 * @param actual
+	 * 	the results of the second run
+	 * @param message
+	 * 	the description of the runs
+	 */
+	private static void assertSameResults(SimulationResults expected, SimulationResults actual,
+	  String message)
+	{
+		assertEquals(expected.getGross(), actual.getGross(), message);
+		assertEquals(expected.getWorkerCosts(), actual.getWorkerCosts(), message);
+		assertEquals(expected.getItemCosts(), actual.getItemCosts(), message);
+		assertEquals(expected.getOverheadCosts(), actual.getOverheadCosts(), message);
+		assertEquals(expected.getProfit(), actual.getProfit(), message);
+		assertEquals(expected.getTotalItems(), actual.getTotalItems(), message);
+		assertEquals(expected.getTotalCustomers(), actual.getTotalCustomers(), message);
+		assertEquals(expected.getTotalCustomersServed(), actual.getTotalCustomersServed(), message);
+		assertEquals(expected.getEfficiency(), actual.getEfficiency(), message);
+		assertEquals(expected.getAggregateWaitTime(), actual.getAggregateWaitTime(), message);
+		assertEquals(expected.getAverageWaitTime(), actual.getAverageWaitTime(), message);
+	}
+
+	/**
+	 * Helper method for checking the results of a seeded simulator in both modes
+	 * @param simulators
+	 * 	makes a new seeded simulator for every run
+	 * @param customers
+	 * 	the expected total amount of customers
+	 * @param served
+	 * 	the expected amount of customers served
+	 * @param items
+	 * 	the expected amount of items sold
+	 * @param gross
+	 * 	the expected gross amount
+	 * @param itemCosts
+	 * 	the expected item costs
+	 * @param aggregateWaitTime
+	 * 	the expected wait time of all customers
+	 */
+	private static void assertResults(Supplier<StoreSimulator> simulators, long customers,
+	  long served, long items, double gross, double itemCosts, double aggregateWaitTime)
+	{
+		for (StoreSimulator.Mode mode : StoreSimulator.Mode.values()) {
+			StoreSimulator simulator = simulators.get();
+			simulator.setQuiet(true);
+			simulator.setMode(mode);
+			SimulationResults results = simulator.run();
+			assertEquals(customers, results.getTotalCustomers(), mode.toString());
+			assertEquals(served, results.getTotalCustomersServed(), mode.toString());
+			assertEquals(items, results.getTotalItems(), mode.toString());
+			assertEquals(gross, results.getGross(), 1e-9, mode.toString());
+			assertEquals(itemCosts, results.getItemCosts(), 1e-9, mode.toString());
+			assertEquals(aggregateWaitTime, results.getAggregateWaitTime(), 1e-9, mode.toString());
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package io.github.hasanq.storesimulator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class represents the checks of the worker pool. Free workers are taken first, and
+ * a worker that finishes goes to the checkout that has waited the longest.
+ */
+class WorkerPoolTest {
+
+	/**
+	 * Checks that workers are taken until none are free and come back when nobody waits
+	 */
+	@Test
+	void takesFreeWorkers() {
+		WorkerPool pool = new WorkerPool(2, 4);
+		assertTrue(pool.tryAcquire());
+		assertTrue(pool.tryAcquire());
+		assertFalse(pool.tryAcquire());
+		assertEquals(0, pool.getFreeWorkers());
+
+		assertEquals(-1, pool.release());
+		assertEquals(1, pool.getFreeWorkers());
+		assertTrue(pool.tryAcquire());
+	}
+
+	/**
+	 * Checks that waiting checkouts get a worker first in, first out, also once the line
+	 * of waiting checkouts has wrapped around
+	 */
+	@Test
+	void wakesCheckoutsInOrder() {
+		WorkerPool pool = new WorkerPool(0, 3);
+		assertFalse(pool.tryAcquire());
+		pool.await(2);
+		pool.await(0);
+		assertEquals(2, pool.getWaiting());
+		assertEquals(2, pool.release());
+
+		pool.await(1);
+		pool.await(2);
+		assertEquals(3, pool.getWaiting());
+		assertEquals(0, pool.release());
+		assertEquals(1, pool.release());
+		pool.await(0);
+		assertEquals(2, pool.release());
+		assertEquals(0, pool.release());
+		assertEquals(0, pool.getWaiting());
+		assertEquals(0, pool.getFreeWorkers());
+
+		assertEquals(-1, pool.release());
+		assertEquals(1, pool.getFreeWorkers());
+	}
+}